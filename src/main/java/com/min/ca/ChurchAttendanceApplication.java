@@ -2,8 +2,10 @@ package com.min.ca;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ChurchAttendanceApplication {
 
 	public static void main(String[] args) {
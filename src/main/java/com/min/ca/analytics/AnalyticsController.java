@@ -0,0 +1,83 @@
+package com.min.ca.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.min.ca.user.UserPrincipal;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * 1. 기간 출석률
+     * [GET] /api/analytics/rate?scope=GROUP|PARISH|CHURCH&groupId=...&from=YYYY-MM-DD&to=YYYY-MM-DD
+     */
+    @GetMapping("/rate")
+    public ResponseEntity<AnalyticsDto.RateResponse> getRate(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("scope") AnalyticsDto.Scope scope,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to) {
+
+        return ResponseEntity.ok(analyticsService.getRate(user, scope, groupId, LocalDate.parse(from), LocalDate.parse(to)));
+    }
+
+    /**
+     * 2. 연속 결석 회원 (최근 기록 기준)
+     * [GET] /api/analytics/absence-streaks?scope=...&groupId=...&minWeeks=3
+     */
+    @GetMapping("/absence-streaks")
+    public ResponseEntity<List<AnalyticsDto.StreakResponse>> getAbsenceStreaks(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("scope") AnalyticsDto.Scope scope,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam(value = "minWeeks", defaultValue = "3") int minWeeks) {
+
+        return ResponseEntity.ok(analyticsService.getAbsenceStreaks(user, scope, groupId, minWeeks));
+    }
+
+    /**
+     * 3. 새신자 정착률
+     * [GET] /api/analytics/retention?scope=...&groupId=...&from=...&to=...&weeks=4
+     */
+    @GetMapping("/retention")
+    public ResponseEntity<AnalyticsDto.RetentionResponse> getRetention(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("scope") AnalyticsDto.Scope scope,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to,
+            @RequestParam(value = "weeks", defaultValue = "4") int weeks) {
+
+        return ResponseEntity.ok(analyticsService.getRetention(
+                user, scope, groupId, LocalDate.parse(from), LocalDate.parse(to), weeks));
+    }
+
+    /**
+     * 4. 달란트 순위
+     * [GET] /api/analytics/talent-leaderboard?scope=...&groupId=...&limit=10
+     */
+    @GetMapping("/talent-leaderboard")
+    public ResponseEntity<List<AnalyticsDto.LeaderResponse>> getLeaderboard(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("scope") AnalyticsDto.Scope scope,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(analyticsService.getLeaderboard(user, scope, groupId, limit));
+    }
+}
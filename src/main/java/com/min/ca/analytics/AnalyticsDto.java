@@ -0,0 +1,45 @@
+package com.min.ca.analytics;
+
+public class AnalyticsDto {
+
+    /**
+     * 조회 범위
+     */
+    public enum Scope {
+        GROUP,  // 속
+        PARISH, // 교구
+        CHURCH  // 교회 전체
+    }
+
+    /**
+     * 출석률 (기록된 주 중 출석한 주의 비율)
+     */
+    public record RateResponse(Scope scope, Long scopeId, int memberCount, int recordedWeeks, int presentWeeks) {
+
+        public double getRate() {
+            return recordedWeeks == 0 ? 0.0 : (double) presentWeeks / recordedWeeks;
+        }
+    }
+
+    /**
+     * 연속 결석 회원
+     */
+    public record StreakResponse(Long memberId, String name, Long groupId, int absentWeeks) {
+    }
+
+    /**
+     * 새신자 정착률 (기간 내 첫 기록 회원 중, 이후 N주 안에 다시 출석한 비율)
+     */
+    public record RetentionResponse(Scope scope, Long scopeId, int weeks, int newcomers, int retained) {
+
+        public double getRate() {
+            return newcomers == 0 ? 0.0 : (double) retained / newcomers;
+        }
+    }
+
+    /**
+     * 달란트 순위
+     */
+    public record LeaderResponse(int rank, Long memberId, String name, Long groupId, int talent) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.min.ca.analytics;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 분석 저장소 적재용 JDBC 조회 (기동 시 전체 1회 + 출결 변경 시 해당 주만)
+ * - 출결 전체는 MySQL 스트리밍 ResultSet 으로 한 행씩 읽어 메모리 사용량을 일정하게 유지합니다.
+ */
+@Repository
+public class AnalyticsLoadRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public AnalyticsLoadRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE); // 🔑 MySQL 스트리밍 ResultSet
+    }
+
+    /**
+     * 1. 회원 + 현재 달란트 잔액 (압축 잔액 + 미압축 원장)
+     */
+    public void streamMembers(MemberRowHandler handler) {
+        jdbcTemplate.query(
+                "SELECT m.member_id, m.name, m.group_id, m.is_active, m.talent + COALESCE(SUM(l.delta), 0) " +
+                "FROM member m " +
+                "LEFT JOIN talent_ledger l ON l.member_id = m.member_id AND l.compaction_batch IS NULL " +
+                "GROUP BY m.member_id, m.name, m.group_id, m.is_active, m.talent",
+                rs -> {
+                    handler.handle(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getBoolean(4), rs.getInt(5));
+                });
+    }
+
+    /**
+     * 2. 출결 스냅샷 전체 (status: 1 = Present)
+     */
+    public void streamAttendance(AttendanceRowHandler handler) {
+        streamingJdbcTemplate.query(
+                "SELECT member_id, group_id, attendance_date, status FROM attendance",
+                rs -> {
+                    handler.handle(rs.getLong(1), rs.getLong(2), rs.getDate(3).toLocalDate(), rs.getInt(4) == 1);
+                });
+    }
+
+    /**
+     * 3. 회원들의 기간 내 출결 스냅샷 (증분 반영 시 한 주만 다시 읽기, uk_attendance_member_date 범위 조회)
+     */
+    public void streamAttendance(Collection<Long> memberIds, LocalDate from, LocalDate to, AttendanceRowHandler handler) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(memberIds);
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        jdbcTemplate.query(
+                "SELECT member_id, group_id, attendance_date, status FROM attendance " +
+                "WHERE member_id IN (" + placeholders + ") AND attendance_date BETWEEN ? AND ?",
+                rs -> {
+                    handler.handle(rs.getLong(1), rs.getLong(2), rs.getDate(3).toLocalDate(), rs.getInt(4) == 1);
+                },
+                args.toArray());
+    }
+
+    @FunctionalInterface
+    public interface MemberRowHandler {
+        void handle(long memberId, String name, long groupId, boolean active, int talent) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface AttendanceRowHandler {
+        void handle(long memberId, long groupId, LocalDate date, boolean present) throws SQLException;
+    }
+}
@@ -0,0 +1,123 @@
+package com.min.ca.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.user.UserPrincipal;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출결 분석 조회 (DB 조회 없이 인메모리 컬럼 저장소에서 계산)
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final AttendanceAnalyticsStore analyticsStore;
+    private final ChurchGroupHierarchy groupHierarchy;
+
+    /**
+     * 1. 기간 출석률
+     */
+    public AnalyticsDto.RateResponse getRate(UserPrincipal user, AnalyticsDto.Scope scope, Long groupId,
+            LocalDate from, LocalDate to) {
+        checkPeriod(from, to);
+        Long scopeId = resolveScopeId(user, scope, groupId);
+        return analyticsStore.rate(scope, scopeId, from, to);
+    }
+
+    /**
+     * 2. 연속 결석 회원
+     */
+    public List<AnalyticsDto.StreakResponse> getAbsenceStreaks(UserPrincipal user, AnalyticsDto.Scope scope, Long groupId,
+            int minWeeks) {
+        if (minWeeks < 1) {
+            throw new IllegalArgumentException("minWeeks는 1 이상이어야 합니다.");
+        }
+        Long scopeId = resolveScopeId(user, scope, groupId);
+        return analyticsStore.absenceStreaks(scope, scopeId, minWeeks);
+    }
+
+    /**
+     * 3. 새신자 정착률
+     */
+    public AnalyticsDto.RetentionResponse getRetention(UserPrincipal user, AnalyticsDto.Scope scope, Long groupId,
+            LocalDate from, LocalDate to, int weeks) {
+        checkPeriod(from, to);
+        if (weeks < 1) {
+            throw new IllegalArgumentException("weeks는 1 이상이어야 합니다.");
+        }
+        Long scopeId = resolveScopeId(user, scope, groupId);
+        return analyticsStore.retention(scope, scopeId, from, to, weeks);
+    }
+
+    /**
+     * 4. 달란트 순위
+     */
+    public List<AnalyticsDto.LeaderResponse> getLeaderboard(UserPrincipal user, AnalyticsDto.Scope scope, Long groupId,
+            int limit) {
+        Long scopeId = resolveScopeId(user, scope, groupId);
+        return analyticsStore.leaderboard(scope, scopeId, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    private void checkPeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+    }
+
+    /**
+     * 🔑 조회 범위 + 권한 검사
+     * - CHURCH : 관리자(Role 0)만
+     * - PARISH : 관리자는 groupId 필수 / 교구장·교역자(Role 1, 4)는 자신의 교구 / 그 외는 자신이 속한 교구
+     * - GROUP  : 관리자는 아무 속 / 교구장·교역자는 자신의 교구 산하 속 / 그 외는 자신의 속
+     */
+    private Long resolveScopeId(UserPrincipal user, AnalyticsDto.Scope scope, Long groupId) {
+        Long myGroupId = user.getGroupId();
+        boolean admin = user.getRole() == 0;
+        boolean parishAdmin = user.getRole() == 1 || user.getRole() == 4;
+
+        switch (scope) {
+            case CHURCH:
+                if (!admin) {
+                    throw new AccessDeniedException("관리자만 접근 가능합니다.");
+                }
+                return null;
+
+            case PARISH: {
+                Long parishId = parishAdmin ? myGroupId : user.getParishId();
+                if (admin) {
+                    if (groupId == null) {
+                        throw new IllegalArgumentException("groupId가 필요합니다.");
+                    }
+                    return groupId;
+                }
+                if (parishId == null || (groupId != null && !groupId.equals(parishId))) {
+                    throw new AccessDeniedException("조회 권한이 없는 교구입니다.");
+                }
+                return parishId;
+            }
+
+            case GROUP: {
+                Long targetId = groupId != null ? groupId : myGroupId;
+                boolean allowed = admin
+                        || targetId.equals(myGroupId)
+                        || (parishAdmin && groupHierarchy.isDescendantOf(targetId, myGroupId));
+                if (!allowed) {
+                    throw new AccessDeniedException("조회 권한이 없는 그룹입니다.");
+                }
+                return targetId;
+            }
+
+            default:
+                throw new IllegalArgumentException("알 수 없는 범위: " + scope);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.min.ca.analytics;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+import com.min.ca.group.ChurchGroupHierarchy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출결 분석용 인메모리 컬럼 저장소
+ * - 회원 한 명 = 슬롯 하나. 회원 속성은 배열(컬럼)로, 출결은 회원별 '주 단위' BitSet 으로 보관합니다.
+ * - 출석률/연속 결석/정착률/달란트 순위를 DB 조회 없이 비트 연산으로 계산합니다.
+ * - 기동 시 DB 에서 한 번 적재하고, 이후 출결/회원 변경은 커밋 이후 증분 반영합니다.
+ * - 한 주에 기록된 날이 하루라도 있으면 '기록된 주', 출석한 날이 하루라도 있으면 '출석한 주' 입니다.
+ *   (주 값은 그 주의 모든 날짜에서 나오므로, 출결 저장/삭제 시에는 해당 회원들의 그 주만 DB 에서 다시 읽어 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceAnalyticsStore {
+
+    // 🔑 주 번호 기준일 (2000-01-02, 일요일). 이전 날짜는 집계하지 않음
+    static final LocalDate EPOCH = LocalDate.of(2000, 1, 2);
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final AnalyticsLoadRepository loadRepository;
+    private final ChurchGroupHierarchy groupHierarchy; // 🔑 교구 범위 필터는 그룹 계층 스냅샷 기준
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock weekReloadLock = new ReentrantLock(); // 🔑 주 재조회는 읽은 순서대로 반영 (늦게 읽은 값이 먼저 읽은 값에 덮이지 않게)
+
+    // --- 회원 컬럼 (인덱스 = 슬롯) ---
+    private int size;
+    private long[] memberIds = new long[INITIAL_CAPACITY];
+    private long[] groupIds = new long[INITIAL_CAPACITY];
+    private int[] talents = new int[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private BitSet[] present = new BitSet[INITIAL_CAPACITY];  // 출석한 주
+    private BitSet[] recorded = new BitSet[INITIAL_CAPACITY]; // 출결이 기록된 주 (출석 + 결석)
+    private final BitSet inactive = new BitSet();
+
+    private final Map<Long, Integer> slotOf = new HashMap<>();
+
+    public static int weekOf(LocalDate date) {
+        return (int) Math.floorDiv(ChronoUnit.DAYS.between(EPOCH, date), 7);
+    }
+
+    /**
+     * 1. 기동 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            clear();
+            loadRepository.streamMembers((memberId, name, groupId, active, talent) -> {
+                int slot = slotFor(memberId);
+                names[slot] = name;
+                groupIds[slot] = groupId;
+                talents[slot] = talent;
+                inactive.set(slot, !active);
+            });
+            loadRepository.streamAttendance((memberId, groupId, date, isPresent) ->
+                    mark(slotFor(memberId), weekOf(date), isPresent));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("출결 분석 저장소 적재 완료: 회원 {}명, {}ms", size, System.currentTimeMillis() - started);
+    }
+
+    // =========================================================================
+    // 증분 반영 (모두 커밋 이후 실행)
+    // =========================================================================
+
+    /**
+     * 2. 출결 저장 (Key: memberId, Value: 출석 여부) + 달란트 변동분
+     */
+    public void recordBoard(Long groupId, LocalDate date, Map<Long, Boolean> presence, Map<Long, Integer> talentDeltas) {
+        Set<Long> memberIds = Set.copyOf(presence.keySet());
+        AfterCommit.run(() -> {
+            write(() -> {
+                memberIds.forEach(memberId -> groupIds[slotFor(memberId)] = groupId);
+                applyTalentDeltas(talentDeltas);
+            });
+            reloadWeek(memberIds, date); // 👈 같은 주의 다른 날짜 기록과 합쳐야 하므로 덮어쓰지 않고 다시 읽음
+        });
+    }
+
+    /**
+     * 3. 출결 삭제 + 달란트 롤백분
+     */
+    public void removeBoard(LocalDate date, Collection<Long> memberIds, Map<Long, Integer> talentDeltas) {
+        Set<Long> removed = Set.copyOf(memberIds);
+        AfterCommit.run(() -> {
+            write(() -> applyTalentDeltas(talentDeltas));
+            reloadWeek(removed, date); // 👈 같은 주의 다른 날짜 기록은 남김
+        });
+    }
+
+    /**
+     * 4. 회원 추가/수정 (이름, 소속)
+     */
+    public void upsertMember(Long memberId, String name, Long groupId) {
+        AfterCommit.run(() -> write(() -> {
+            int slot = slotFor(memberId);
+            names[slot] = name;
+            groupIds[slot] = groupId == null ? 0L : groupId;
+        }));
+    }
+
+    /**
+     * 5. 수동 달란트 조정
+     */
+    public void adjustTalent(Long memberId, int delta) {
+        AfterCommit.run(() -> write(() -> applyTalentDeltas(Map.of(memberId, delta))));
+    }
+
+    /**
+     * 6. 회원 비활성화 (Soft Delete)
+     */
+    public void deactivate(Long memberId) {
+        AfterCommit.run(() -> write(() -> inactive.set(slotFor(memberId))));
+    }
+
+    // =========================================================================
+    // 조회
+    // =========================================================================
+
+    /**
+     * 7. 기간 내 출석률 (주 단위)
+     */
+    public AnalyticsDto.RateResponse rate(AnalyticsDto.Scope scope, Long scopeId, LocalDate from, LocalDate to) {
+        int fromWeek = Math.max(0, weekOf(from));
+        int toWeek = weekOf(to) + 1; // 🔑 exclusive
+        lock.readLock().lock();
+        try {
+            IntPredicate inScope = scopeFilter(scope, scopeId);
+            int members = 0;
+            int recordedWeeks = 0;
+            int presentWeeks = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (!inScope.test(slot)) {
+                    continue;
+                }
+                int rec = countRange(recorded[slot], fromWeek, toWeek);
+                if (rec == 0) {
+                    continue;
+                }
+                members++;
+                recordedWeeks += rec;
+                presentWeeks += countRange(present[slot], fromWeek, toWeek);
+            }
+            return new AnalyticsDto.RateResponse(scope, scopeId, members, recordedWeeks, presentWeeks);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 8. 최근 기록 기준 연속 결석 주수가 minWeeks 이상인 활성 회원 (많은 순)
+     */
+    public List<AnalyticsDto.StreakResponse> absenceStreaks(AnalyticsDto.Scope scope, Long scopeId, int minWeeks) {
+        lock.readLock().lock();
+        try {
+            IntPredicate inScope = scopeFilter(scope, scopeId);
+            List<AnalyticsDto.StreakResponse> result = new ArrayList<>();
+            for (int slot = 0; slot < size; slot++) {
+                if (inactive.get(slot) || !inScope.test(slot)) {
+                    continue;
+                }
+                int streak = absenceStreak(slot);
+                if (streak >= minWeeks) {
+                    result.add(new AnalyticsDto.StreakResponse(memberIds[slot], names[slot], groupIds[slot], streak));
+                }
+            }
+            result.sort(Comparator.comparingInt(AnalyticsDto.StreakResponse::absentWeeks).reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 9. 새신자 정착률: 첫 기록 주가 [from, to] 인 회원 중, 이후 weeks 주 안에 한 번이라도 출석한 회원
+     */
+    public AnalyticsDto.RetentionResponse retention(AnalyticsDto.Scope scope, Long scopeId,
+            LocalDate from, LocalDate to, int weeks) {
+        int fromWeek = Math.max(0, weekOf(from));
+        int toWeek = weekOf(to) + 1;
+        lock.readLock().lock();
+        try {
+            IntPredicate inScope = scopeFilter(scope, scopeId);
+            int newcomers = 0;
+            int retained = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (!inScope.test(slot)) {
+                    continue;
+                }
+                int first = recorded[slot].nextSetBit(0);
+                if (first < fromWeek || first >= toWeek) {
+                    continue;
+                }
+                newcomers++;
+                int next = present[slot].nextSetBit(first + 1);
+                if (next >= 0 && next <= first + weeks) {
+                    retained++;
+                }
+            }
+            return new AnalyticsDto.RetentionResponse(scope, scopeId, weeks, newcomers, retained);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 10. 달란트 상위 limit 명 (활성 회원)
+     */
+    public List<AnalyticsDto.LeaderResponse> leaderboard(AnalyticsDto.Scope scope, Long scopeId, int limit) {
+        lock.readLock().lock();
+        try {
+            IntPredicate inScope = scopeFilter(scope, scopeId);
+            int[] slots = new int[size];
+            int count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (!inactive.get(slot) && inScope.test(slot)) {
+                    slots[count++] = slot;
+                }
+            }
+            Integer[] sorted = Arrays.stream(slots, 0, count).boxed().toArray(Integer[]::new);
+            Arrays.sort(sorted, (a, b) -> Integer.compare(talents[b], talents[a]));
+
+            List<AnalyticsDto.LeaderResponse> result = new ArrayList<>(Math.min(limit, count));
+            for (int i = 0; i < Math.min(limit, count); i++) {
+                int slot = sorted[i];
+                result.add(new AnalyticsDto.LeaderResponse(i + 1, memberIds[slot], names[slot], groupIds[slot], talents[slot]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================================================================
+    // 내부 헬퍼 (호출 측에서 락을 잡고 있어야 함)
+    // =========================================================================
+
+    // 🔑 회원들의 한 주 출결을 DB 에서 다시 읽어 그 주의 비트만 교체 (DB 조회는 쓰기 락 밖에서)
+    private void reloadWeek(Set<Long> memberIds, LocalDate date) {
+        int week = weekOf(date);
+        if (week < 0 || memberIds.isEmpty()) {
+            return;
+        }
+        LocalDate weekStart = EPOCH.plusWeeks(week);
+        weekReloadLock.lock();
+        try {
+            Map<Long, Boolean> weekPresence = new HashMap<>(); // 회원 -> 그 주에 출석한 날이 있는지 (기록이 없으면 키 없음)
+            loadRepository.streamAttendance(memberIds, weekStart, weekStart.plusDays(6),
+                    (memberId, groupId, day, isPresent) -> weekPresence.merge(memberId, isPresent, Boolean::logicalOr));
+
+            write(() -> memberIds.forEach(memberId -> {
+                int slot = slotFor(memberId);
+                recorded[slot].clear(week);
+                present[slot].clear(week);
+                Boolean isPresent = weekPresence.get(memberId);
+                if (isPresent != null) {
+                    mark(slot, week, isPresent);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // (이미 커밋된 출결이므로 요청은 실패시키지 않음 - 재기동 시 전체 적재로 맞춰짐)
+            log.warn("출결 분석 저장소 주 단위 재조회 실패: week={}, 회원 {}명", week, memberIds.size(), e);
+        } finally {
+            weekReloadLock.unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IntPredicate scopeFilter(AnalyticsDto.Scope scope, Long scopeId) {
+        return switch (scope) {
+            case CHURCH -> slot -> true;
+            case GROUP -> slot -> groupIds[slot] == scopeId;
+            case PARISH -> slot -> groupHierarchy.isDescendantOf(groupIds[slot], scopeId);
+        };
+    }
+
+    private int absenceStreak(int slot) {
+        BitSet rec = recorded[slot];
+        BitSet pre = present[slot];
+        int streak = 0;
+        // 🔑 마지막 기록 주부터 거꾸로, 출석한 주를 만날 때까지
+        for (int week = rec.length() - 1; week >= 0; week = rec.previousSetBit(week - 1)) {
+            if (pre.get(week)) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    private static int countRange(BitSet bits, int from, int to) {
+        int count = 0;
+        for (int i = bits.nextSetBit(from); i >= 0 && i < to; i = bits.nextSetBit(i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private void mark(int slot, int week, boolean isPresent) {
+        if (week < 0) {
+            return;
+        }
+        recorded[slot].set(week);
+        if (isPresent) {
+            present[slot].set(week); // 👈 같은 주의 다른 날짜에 출석했으면 결석 기록이 지우지 않음
+        }
+    }
+
+    private void applyTalentDeltas(Map<Long, Integer> talentDeltas) {
+        talentDeltas.forEach((memberId, delta) -> talents[slotFor(memberId)] += delta);
+    }
+
+    private int slotFor(long memberId) {
+        Integer slot = slotOf.get(memberId);
+        if (slot != null) {
+            return slot;
+        }
+        if (size == memberIds.length) {
+            grow();
+        }
+        int created = size++;
+        memberIds[created] = memberId;
+        present[created] = new BitSet();
+        recorded[created] = new BitSet();
+        slotOf.put(memberId, created);
+        return created;
+    }
+
+    private void grow() {
+        int capacity = memberIds.length * 2;
+        memberIds = Arrays.copyOf(memberIds, capacity);
+        groupIds = Arrays.copyOf(groupIds, capacity);
+        talents = Arrays.copyOf(talents, capacity);
+        names = Arrays.copyOf(names, capacity);
+        present = Arrays.copyOf(present, capacity);
+        recorded = Arrays.copyOf(recorded, capacity);
+    }
+
+    private void clear() {
+        size = 0;
+        slotOf.clear();
+        inactive.clear();
+        Arrays.fill(present, null);
+        Arrays.fill(recorded, null);
+        Arrays.fill(names, null);
+    }
+}
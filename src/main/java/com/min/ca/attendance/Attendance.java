@@ -7,14 +7,18 @@ import com.min.ca.member.Member;
 import com.min.ca.user.User;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,11 +29,20 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "ATTENDANCE")
+@Table(name = "ATTENDANCE",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_member_date",
+                columnNames = {"member_id", "attendance_date"}),
+        indexes = {
+                @Index(name = "idx_attendance_group_date",
+                        columnList = "group_id, attendance_date, member_id, status, talent")
+        })
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_id")
+    @TableGenerator(name = "attendance_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "attendance", allocationSize = 50)
     @Column(name = "attendance_id")
     private Long id;
 
@@ -48,8 +61,9 @@ public class Attendance {
     @Column(name = "attendance_date", nullable = false)
     private LocalDate date;
 
-    @Column(nullable = false, length = 20)
-    private String status; // "Present" 또는 "Absent"
+    @Convert(converter = AttendanceStatusConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private String status; // "Present" 또는 "Absent" (DB 에는 1 / 0)
     
     @Column(nullable = false)
     private int talent = 0;
@@ -61,9 +75,12 @@ public class Attendance {
 
     @Column(length = 255)
     private String note; // 🔑 출석 비고 (보고 사항)
+
+    @Column(nullable = false)
+    private long version; // 🔑 이 행을 마지막으로 바꾼 출결판 버전 (증분 동기화용)
     
     @Builder
-    public Attendance(Member member, User user, ChurchGroup group, LocalDate date, String status, String reason, String note, int talent) {
+    public Attendance(Member member, User user, ChurchGroup group, LocalDate date, String status, String reason, String note, int talent, long version) {
         this.member = member;
         this.user = user;
         this.group = group;
@@ -72,5 +89,6 @@ public class Attendance {
         this.reason = reason;
         this.note = note;
         this.talent = talent;
+        this.version = version;
     }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+
+/**
+ * '오늘' 출결판 캐시 (주일 오전 집중 조회 대비)
+ * - 키: (group, date). 최대 maxSize 개, 가장 오래 안 쓴 항목부터 제거 (LRU)
+ * - 캐시된 응답 객체는 절대 수정하지 않고, 변경 시 복사본으로 교체합니다. (직렬화 중인 응답과 충돌 방지)
+ * - 출결 저장/회원 변경은 커밋 이후 캐시에 바로 반영합니다. (DB 재조회 없음)
+ * - 조회(miss) 와 저장이 겹쳐 오래된 값이 들어가지 않도록 그룹별 stamp 로 확인 후 넣습니다.
+ */
+@Component
+public class AttendanceBoardCache {
+
+    private final int maxSize;
+    private final Map<Key, AttendanceDto.DayAttendanceResponse> boards;
+    private final Map<Long, Long> stamps = new HashMap<>(); // Key: group_id, Value: 변경 횟수
+
+    public AttendanceBoardCache(@Value("${attendance.board-cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, AttendanceDto.DayAttendanceResponse> eldest) {
+                return size() > AttendanceBoardCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 1. 캐시 조회 (없으면 null)
+     */
+    public synchronized AttendanceDto.DayAttendanceResponse get(Long groupId, LocalDate date) {
+        return boards.get(new Key(groupId, date));
+    }
+
+    /**
+     * 2. DB 조회 직전의 그룹 stamp (put 시 그대로 전달)
+     */
+    public synchronized long stamp(Long groupId) {
+        return stamps.getOrDefault(groupId, 0L);
+    }
+
+    /**
+     * 3. 캐시 저장 - 조회 도중 같은 그룹에 변경이 있었다면 저장하지 않음
+     */
+    public synchronized void put(Long groupId, LocalDate date, long stamp, AttendanceDto.DayAttendanceResponse board) {
+        if (stamp == stamp(groupId)) {
+            boards.put(new Key(groupId, date), board);
+        }
+    }
+
+    /**
+     * 4. (워밍업) 지정 날짜 외의 항목 제거
+     */
+    public synchronized void retainOnly(LocalDate date) {
+        boards.keySet().removeIf(key -> !key.date().equals(date));
+    }
+
+    public synchronized int size() {
+        return boards.size();
+    }
+
+    /**
+     * 5. 출결 저장 반영 (커밋 이후) - 기록 덮어쓰기 + 누적 달란트에 조정값 더하기
+     */
+    public void applySave(Long groupId, LocalDate date, Collection<AttendanceDto.AttendanceRecordDto> records,
+            Map<Long, Integer> adjustments) {
+        AfterCommit.run(() -> update(groupId, date, board -> {
+            Map<Long, AttendanceDto.LoadResponse> byMember = new HashMap<>();
+            board.getRecords().forEach(row -> byMember.put(row.getId(), row));
+
+            for (AttendanceDto.AttendanceRecordDto record : records) {
+                AttendanceDto.LoadResponse row = byMember.get(record.getMemberId());
+                if (row == null) {
+                    return null; // 🔑 캐시된 명단에 없는 회원 -> 항목 제거 후 다음 조회 때 다시 적재
+                }
+                row.setAttendance(record.getStatus());
+                row.setReason(record.getReason());
+                row.setNote(record.getNote());
+                row.setTalent(record.getTalent());
+                row.setTotalTalent(row.getTotalTalent() + adjustments.getOrDefault(record.getMemberId(), 0));
+            }
+            board.setSnapshotLoaded(true);
+            return board;
+        }));
+    }
+
+    /**
+     * 6. 출결 삭제 반영 (커밋 이후) - 다음 조회 때 DB 에서 다시 적재
+     */
+    public void evict(Long groupId, LocalDate date) {
+        AfterCommit.run(() -> update(groupId, date, board -> null));
+    }
+
+    /**
+     * 7. 회원 추가 반영 (커밋 이후) - 해당 속의 '오늘' 출결판에 결석 상태로 추가
+     */
+    public void memberAdded(Long groupId, Long memberId, String name) {
+        LocalDate today = LocalDate.now();
+        AfterCommit.run(() -> update(groupId, today, board -> {
+            board.getRecords().add(new AttendanceDto.LoadResponse(
+                    new AttendanceDto.BoardRow(memberId, name, 0, true, null, null, null, null)));
+            board.getRecords().sort(Comparator.comparing(AttendanceDto.LoadResponse::getId)); // 🔑 조회 쿼리와 같은 순서
+            return board;
+        }));
+    }
+
+    /**
+     * 8. 회원 수정 반영 (커밋 이후) - 이름/누적 달란트
+     */
+    public void memberUpdated(Long groupId, Long memberId, String name, int totalTalent) {
+        LocalDate today = LocalDate.now();
+        AfterCommit.run(() -> update(groupId, today, board -> {
+            board.getRecords().stream()
+                    .filter(row -> row.getId().equals(memberId))
+                    .forEach(row -> {
+                        row.setName(name);
+                        row.setTotalTalent(totalTalent);
+                    });
+            return board;
+        }));
+    }
+
+    /**
+     * 9. 회원 비활성화 반영 (커밋 이후) - 출결판 명단에서 제외
+     */
+    public void memberRemoved(Long groupId, Long memberId) {
+        LocalDate today = LocalDate.now();
+        AfterCommit.run(() -> update(groupId, today, board -> {
+            board.getRecords().removeIf(row -> row.getId().equals(memberId));
+            return board;
+        }));
+    }
+
+    // 🔑 stamp 를 올리고, 캐시 항목이 있으면 '복사본'에 변경을 적용해 교체 (null 반환 시 제거)
+    private synchronized void update(Long groupId, LocalDate date, BoardUpdate change) {
+        stamps.merge(groupId, 1L, Long::sum);
+
+        Key key = new Key(groupId, date);
+        AttendanceDto.DayAttendanceResponse cached = boards.get(key);
+        if (cached == null) {
+            return;
+        }
+        AttendanceDto.DayAttendanceResponse updated = change.apply(copyOf(cached));
+        if (updated == null) {
+            boards.remove(key);
+        } else {
+            boards.put(key, updated);
+        }
+    }
+
+    private static AttendanceDto.DayAttendanceResponse copyOf(AttendanceDto.DayAttendanceResponse board) {
+        List<AttendanceDto.LoadResponse> records = new ArrayList<>(board.getRecords().size());
+        for (AttendanceDto.LoadResponse row : board.getRecords()) {
+            records.add(new AttendanceDto.LoadResponse(new AttendanceDto.BoardRow(
+                    row.getId(), row.getName(), row.getTotalTalent(), true,
+                    row.getAttendance(), row.getReason(), row.getNote(), row.getTalent())));
+        }
+        AttendanceDto.DayAttendanceResponse copy = new AttendanceDto.DayAttendanceResponse();
+        copy.setSnapshotLoaded(board.isSnapshotLoaded());
+        copy.setRecords(records);
+        return copy;
+    }
+
+    @FunctionalInterface
+    private interface BoardUpdate {
+        AttendanceDto.DayAttendanceResponse apply(AttendanceDto.DayAttendanceResponse board);
+    }
+
+    private record Key(Long groupId, LocalDate date) {
+    }
+}
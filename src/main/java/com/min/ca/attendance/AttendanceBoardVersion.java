@@ -0,0 +1,53 @@
+package com.min.ca.attendance;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 출결판 (group, date) 별 버전 카운터 (증분 동기화용)
+ * - 출결 저장 때마다 version 이 1 증가하고, 바뀐 ATTENDANCE 행에 그 버전이 기록됩니다.
+ * - 삭제/명단 변경처럼 '행 단위 변경'으로 표현할 수 없는 경우 reset_version = version 으로 올려
+ *   그 이전 버전을 가진 클라이언트가 전체 출결판을 다시 받게 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(AttendanceBoardVersion.Key.class)
+@Table(name = "ATTENDANCE_BOARD_VERSION")
+public class AttendanceBoardVersion {
+
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Id
+    @Column(name = "board_date")
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "reset_version", nullable = false)
+    private long resetVersion;
+
+    // 🔑 복합키 (group_id, board_date)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long groupId;
+        private LocalDate date;
+    }
+}
@@ -0,0 +1,51 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AttendanceBoardVersionRepository
+        extends JpaRepository<AttendanceBoardVersion, AttendanceBoardVersion.Key> {
+
+    // 🔑 1. 버전 +1 (행이 없으면 1). 행 잠금이 커밋까지 유지되므로 같은 출결판의 저장은 버전 순서대로 커밋됨
+    @Modifying
+    @Query(value = "INSERT INTO attendance_board_version (group_id, board_date, version, reset_version) " +
+            "VALUES (:groupId, :date, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true)
+    void bump(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 2. 버전 +1 후 reset_version 도 같은 값으로 (이전 버전 클라이언트는 전체 재조회)
+    //    (MySQL 은 왼쪽부터 대입하므로 reset_version 에는 증가된 version 이 들어감)
+    @Modifying
+    @Query(value = "INSERT INTO attendance_board_version (group_id, board_date, version, reset_version) " +
+            "VALUES (:groupId, :date, 1, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, reset_version = version",
+            nativeQuery = true)
+    void reset(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 3. 현재 버전 상태 (행이 없으면 null)
+    @Query(value = "SELECT version AS version, reset_version AS resetVersion FROM attendance_board_version " +
+            "WHERE group_id = :groupId AND board_date = :date",
+            nativeQuery = true)
+    State findState(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    /**
+     * 버전 +1 후 새 버전 반환 (같은 트랜잭션)
+     */
+    default long nextVersion(Long groupId, LocalDate date) {
+        bump(groupId, date);
+        State state = findState(groupId, date);
+        return state == null ? 0L : state.getVersion();
+    }
+
+    interface State {
+        long getVersion();
+        long getResetVersion();
+    }
+}
@@ -0,0 +1,44 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.member.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주일 오전 출결판 워밍업
+ * - 예배 전에 활성 회원이 있는 모든 속의 '오늘' 출결판을 미리 만들어 캐시에 채웁니다.
+ * - 기본: 매주 일요일 새벽 5시 30분 (attendance.board-cache.warmup-cron)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBoardWarmupJob {
+
+    private final AttendanceService attendanceService;
+    private final AttendanceBoardCache boardCache;
+    private final MemberRepository memberRepository;
+
+    @Scheduled(cron = "${attendance.board-cache.warmup-cron:0 30 5 * * SUN}")
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+
+        // 1. 지난 날짜의 항목은 비움 (오늘 출결판만 캐시 대상)
+        boardCache.retainOnly(today);
+
+        // 2. 활성 회원이 있는 속마다 출결판 적재 (getAttendance 가 캐시에 넣음)
+        List<Long> groupIds = memberRepository.findActiveGroupIds();
+        for (Long groupId : groupIds) {
+            attendanceService.getAttendance(groupId, today);
+        }
+        log.info("출결판 워밍업 완료: {}개 속, 캐시 {}건, {}ms",
+                groupIds.size(), boardCache.size(), System.currentTimeMillis() - started);
+    }
+}
@@ -3,17 +3,23 @@ package com.min.ca.attendance;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.min.ca.user.User;
+import com.min.ca.jwt.JwtTokenProvider;
+import com.min.ca.user.UserPrincipal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,18 +29,21 @@ import lombok.RequiredArgsConstructor;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceSyncService attendanceSyncService;
+    private final AttendanceLiveHub attendanceLiveHub;
+    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 1. 출결 저장 (POST /api/attendance)
      * [POST] /api/attendance
      *
      * @param request DTO (날짜 + 학생 기록 리스트)
-     * @param user    로그인한 속장(User)
+     * @param user    로그인한 속장(UserPrincipal)
      */
     @PostMapping
     public ResponseEntity<Void> saveAttendance(
             @RequestBody AttendanceDto.SaveRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         // 1. Service를 호출하여 2-Part 저장 로직 실행
         // (1. Attendance 테이블 저장 + 2. Member 테이블 업데이트)
@@ -50,9 +59,9 @@ public class AttendanceController {
     @GetMapping
     public ResponseEntity<AttendanceDto.DayAttendanceResponse> getAttendance(
             @RequestParam("date") String date, 
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
         
-        Long groupId = user.getGroup().getId();
+        Long groupId = user.getGroupId();
         LocalDate attendanceDate = LocalDate.parse(date);
 
         // 🔑 2. Service가 DayAttendanceResponse 객체를 반환
@@ -61,19 +70,106 @@ public class AttendanceController {
         return ResponseEntity.ok(response); // 👈 이 객체를 반환
     }
     
+    /**
+     * 출결이 저장된 날짜 목록 (GET /api/attendance/dates?year=YYYY&month=M)
+     * - year, month 는 선택 (없으면 전체 기간)
+     */
     @GetMapping("/dates")
-    public ResponseEntity<List<LocalDate>> getAttendanceDates(@AuthenticationPrincipal User user) {
-        List<LocalDate> dates = attendanceService.getSavedDates(user.getGroup().getId());
+    public ResponseEntity<List<LocalDate>> getAttendanceDates(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "month", required = false) Integer month) {
+        List<LocalDate> dates = attendanceService.getSavedDates(user.getGroupId(), year, month);
         return ResponseEntity.ok(dates); // 👈 ["2025-10-04", "2025-10-22"]
     }
     
+    /**
+     * 증분 동기화 - 변경분 조회
+     * [GET] /api/attendance/sync?date=YYYY-MM-DD&since=버전
+     * - since 가 없으면 전체 출결판 + 현재 버전
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<AttendanceDto.SyncResponse> getChanges(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("date") String date,
+            @RequestParam(value = "since", required = false) Long since) {
+
+        return ResponseEntity.ok(attendanceSyncService.getChanges(user.getGroupId(), LocalDate.parse(date), since));
+    }
+
+    /**
+     * 증분 동기화 - 바뀐 회원만 저장 (같은 idempotencyKey 재전송은 무시)
+     * [PATCH] /api/attendance/sync
+     */
+    @PatchMapping("/sync")
+    public ResponseEntity<AttendanceDto.SyncResponse> patch(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestBody AttendanceDto.SyncPatchRequest request) {
+
+        return ResponseEntity.ok(attendanceSyncService.patch(request, user));
+    }
+
+    /**
+     * 실시간 공동 편집 - 구독 티켓 발급
+     * [POST] /api/attendance/live/ticket (Authorization 헤더 필요)
+     * - 브라우저 EventSource 는 Authorization 헤더를 보낼 수 없으므로, 이 티켓을 받아 쿼리 파라미터로 구독합니다.
+     */
+    @PostMapping("/live/ticket")
+    public ResponseEntity<AttendanceDto.LiveTicket> issueLiveTicket(@AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.ok(new AttendanceDto.LiveTicket(
+                jwtTokenProvider.createLiveTicket(user), jwtTokenProvider.getLiveTicketValiditySeconds()));
+    }
+
+    /**
+     * 실시간 공동 편집 - 구독 (SSE)
+     * [GET] /api/attendance/live?date=YYYY-MM-DD&ticket=구독티켓
+     * - 인증: Authorization 헤더(fetch 스트림 클라이언트) 또는 ticket 파라미터(EventSource)
+     *   예) const { ticket } = await (await fetch('/api/attendance/live/ticket', { method: 'POST', headers })).json();
+     *       new EventSource(`/api/attendance/live?date=${date}&ticket=${ticket}`);
+     * - 티켓은 구독을 시작할 때만 확인합니다. EventSource 의 자동 재연결은 만료된 티켓으로 401 이 나므로,
+     *   onerror 에서 연결을 닫고 새 티켓으로 다시 구독해야 합니다.
+     * - 이벤트: hello {version} / change {version, editor, records, talentDeltas} / reset {}
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLive(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("date") String date) {
+
+        Long groupId = user.getGroupId();
+        LocalDate attendanceDate = LocalDate.parse(date);
+        return attendanceLiveHub.subscribe(groupId, attendanceDate, attendanceSyncService.getVersion(groupId, attendanceDate));
+    }
+
+    /**
+     * 실시간 공동 편집 - 회원 한 명 저장 (탭 한 번 = 작은 요청 한 번 + 행 하나 저장)
+     * [PATCH] /api/attendance/live/{memberId}?date=YYYY-MM-DD&baseVersion=N
+     * - Idempotency-Key 헤더: 재전송 시 같은 값을 보내면 다시 저장하지 않음
+     */
+    @PatchMapping("/live/{memberId}")
+    public ResponseEntity<AttendanceDto.SyncResponse> patchLive(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable("memberId") Long memberId,
+            @RequestParam("date") String date,
+            @RequestParam("baseVersion") Long baseVersion,
+            @RequestHeader("Idempotency-Key") String idempotencyKey,
+            @RequestBody AttendanceDto.AttendanceRecordDto record) {
+
+        record.setMemberId(memberId);
+        AttendanceDto.SyncPatchRequest request = new AttendanceDto.SyncPatchRequest();
+        request.setDate(date);
+        request.setBaseVersion(baseVersion);
+        request.setIdempotencyKey(idempotencyKey);
+        request.setRecords(List.of(record));
+        return ResponseEntity.ok(attendanceSyncService.patch(request, user));
+    }
+
     /**
      * 🔑 [신규] 특정 날짜의 출결 기록 삭제
      * (DELETE /api/attendance?date=YYYY-MM-DD)
      */
     @DeleteMapping
     public ResponseEntity<Void> deleteAttendance(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("date") String date) { // 👈 @PathVariable 대신 @RequestParam 사용
         
         LocalDate attendanceDate = LocalDate.parse(date);
@@ -0,0 +1,62 @@
+package com.min.ca.attendance;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 속(group) + 날짜별 출결 요약 (읽기 모델)
+ * - ATTENDANCE 원본에서 계산되며, 출결 저장/삭제 시 같은 트랜잭션에서 갱신됩니다.
+ * - 교구 요약 화면은 ATTENDANCE 를 스캔하지 않고 이 테이블의 작은 행만 읽습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(AttendanceDailySummary.Key.class)
+@Table(name = "ATTENDANCE_DAILY_SUMMARY")
+public class AttendanceDailySummary {
+
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Id
+    @Column(name = "summary_date")
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private boolean submitted; // 👈 출결 등록 여부 (스냅샷 1건 이상)
+
+    @Column(name = "present_count", nullable = false)
+    private int presentCount;
+
+    @Column(name = "absent_count", nullable = false)
+    private int absentCount;
+
+    @Column(name = "talent_total", nullable = false)
+    private int talentTotal; // 👈 그날 획득한 총 달란트
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 🔑 복합키 (group_id, summary_date)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long groupId;
+        private LocalDate date;
+    }
+}
@@ -0,0 +1,56 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AttendanceDailySummaryRepository
+        extends JpaRepository<AttendanceDailySummary, AttendanceDailySummary.Key> {
+
+    // 🔑 1. (교구 요약) 여러 속의 특정 날짜 요약 행을 한 번에 조회
+    List<AttendanceDailySummary> findAllByGroupIdInAndDate(Collection<Long> groupIds, LocalDate date);
+
+    // 🔑 (교구 추이) 여러 속의 기간 내 '제출된' 요약 행을 한 번에 조회 (PK (group_id, summary_date) 범위 조회)
+    List<AttendanceDailySummary> findAllByGroupIdInAndDateBetweenAndSubmittedTrue(
+            Collection<Long> groupIds, LocalDate from, LocalDate to);
+
+    // 🔑 (저장 날짜 인덱스 적재용) 출결이 등록된 모든 (group, date)
+    List<AttendanceDailySummary> findAllBySubmittedTrue();
+
+    // 🔑 2. (출결 저장/삭제 시) 해당 (group, date) 요약 행을 원본에서 다시 계산 (UPSERT)
+    //    (status: 1 = Present, 0 = Absent - AttendanceStatus 참고)
+    //    (스냅샷이 0건이면 submitted = 0 인 행으로 남음)
+    @Modifying
+    @Query(value = "INSERT INTO attendance_daily_summary " +
+            "(group_id, summary_date, submitted, present_count, absent_count, talent_total, updated_at) " +
+            "SELECT :groupId, :date, COUNT(*) > 0, " +
+            "COALESCE(SUM(status = 1), 0), COALESCE(SUM(status <> 1), 0), " +
+            "COALESCE(SUM(talent), 0), NOW(6) " +
+            "FROM attendance WHERE group_id = :groupId AND attendance_date = :date " +
+            "ON DUPLICATE KEY UPDATE submitted = VALUES(submitted), present_count = VALUES(present_count), " +
+            "absent_count = VALUES(absent_count), talent_total = VALUES(talent_total), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void refresh(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 3. (재생성) 요약 테이블 전체 삭제
+    @Modifying
+    @Query(value = "DELETE FROM attendance_daily_summary", nativeQuery = true)
+    void deleteAllRows();
+
+    // 🔑 4. (재생성) 원본 ATTENDANCE 전체에서 요약 행을 다시 생성
+    @Modifying
+    @Query(value = "INSERT INTO attendance_daily_summary " +
+            "(group_id, summary_date, submitted, present_count, absent_count, talent_total, updated_at) " +
+            "SELECT group_id, attendance_date, 1, SUM(status = 1), SUM(status <> 1), " +
+            "SUM(talent), NOW(6) " +
+            "FROM attendance GROUP BY group_id, attendance_date",
+            nativeQuery = true)
+    int rebuildAll();
+}
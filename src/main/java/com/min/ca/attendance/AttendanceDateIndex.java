@@ -0,0 +1,135 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 속(group)별 '출결 저장 날짜' 인메모리 인덱스
+ * - 속마다 연도별 BitSet(일 단위, dayOfYear) 하나씩만 유지합니다.
+ * - 기동 시 출결 요약 테이블에서 한 번 적재하고, 이후에는 저장/삭제 커밋 시 갱신합니다.
+ * - 달력 화면은 ATTENDANCE 테이블을 조회하지 않고 이 인덱스에서 바로 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceDateIndex {
+
+    private final AttendanceDailySummaryRepository dailySummaryRepository;
+
+    // Key: group_id
+    private final Map<Long, GroupDates> index = new ConcurrentHashMap<>();
+
+    /**
+     * 1. 기동 시 전체 적재 (submitted 인 요약 행 기준)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, GroupDates> loaded = new ConcurrentHashMap<>();
+        for (AttendanceDailySummary summary : dailySummaryRepository.findAllBySubmittedTrue()) {
+            loaded.computeIfAbsent(summary.getGroupId(), id -> new GroupDates()).add(summary.getDate());
+        }
+        index.clear();
+        index.putAll(loaded);
+    }
+
+    /**
+     * 2. 저장 날짜 조회 (여러 속의 합집합, 오름차순)
+     * @param year  (선택) 연도 - 없으면 전체 기간
+     * @param month (선택) 월 - year 없이 month 만 오면 올해 기준
+     */
+    public List<LocalDate> getDates(Collection<Long> groupIds, Integer year, Integer month) {
+        LocalDate from = LocalDate.MIN;
+        LocalDate to = LocalDate.MAX;
+
+        if (year != null || month != null) {
+            int targetYear = (year != null) ? year : LocalDate.now().getYear();
+            if (month != null) {
+                YearMonth yearMonth = YearMonth.of(targetYear, month);
+                from = yearMonth.atDay(1);
+                to = yearMonth.atEndOfMonth();
+            } else {
+                from = LocalDate.of(targetYear, 1, 1);
+                to = LocalDate.of(targetYear, 12, 31);
+            }
+        }
+
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (Long groupId : groupIds) {
+            GroupDates groupDates = index.get(groupId);
+            if (groupDates != null) {
+                groupDates.collect(from, to, dates);
+            }
+        }
+        return new ArrayList<>(dates);
+    }
+
+    /**
+     * 3. 출결 저장 시 (커밋 이후 반영)
+     */
+    public void markSaved(Long groupId, LocalDate date) {
+        AfterCommit.run(() -> index.computeIfAbsent(groupId, id -> new GroupDates()).add(date));
+    }
+
+    /**
+     * 4. 출결 삭제 시 (커밋 이후 반영)
+     */
+    public void markDeleted(Long groupId, LocalDate date) {
+        AfterCommit.run(() -> {
+            GroupDates groupDates = index.get(groupId);
+            if (groupDates != null) {
+                groupDates.remove(date);
+            }
+        });
+    }
+
+    /**
+     * 한 속의 저장 날짜 (Key: 연도, Value: dayOfYear - 1 위치의 비트)
+     */
+    private static final class GroupDates {
+
+        private final TreeMap<Integer, BitSet> years = new TreeMap<>();
+
+        synchronized void add(LocalDate date) {
+            years.computeIfAbsent(date.getYear(), y -> new BitSet(366)).set(date.getDayOfYear() - 1);
+        }
+
+        synchronized void remove(LocalDate date) {
+            BitSet days = years.get(date.getYear());
+            if (days != null) {
+                days.clear(date.getDayOfYear() - 1);
+                if (days.isEmpty()) {
+                    years.remove(date.getYear());
+                }
+            }
+        }
+
+        synchronized void collect(LocalDate from, LocalDate to, Collection<LocalDate> out) {
+            for (Map.Entry<Integer, BitSet> entry : years.subMap(from.getYear(), true, to.getYear(), true).entrySet()) {
+                int year = entry.getKey();
+                BitSet days = entry.getValue();
+
+                int start = (year == from.getYear()) ? from.getDayOfYear() - 1 : 0;
+                int end = (year == to.getYear()) ? to.getDayOfYear() : 366; // (exclusive)
+
+                for (int i = days.nextSetBit(start); i >= 0 && i < end; i = days.nextSetBit(i + 1)) {
+                    out.add(LocalDate.ofYearDay(year, i + 1));
+                }
+            }
+        }
+    }
+}
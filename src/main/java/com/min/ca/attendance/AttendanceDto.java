@@ -1,8 +1,9 @@
 package com.min.ca.attendance; // (패키지 경로는 예시입니다)
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-
-import com.min.ca.member.Member;
+import java.util.Map;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -61,18 +62,18 @@ public class AttendanceDto {
         private String note;
         private int talent; // 👈 "오늘 획득한" 달란트 (항상 0)
 
-        // 생성자 (Member + Attendance -> DTO)
-        public LoadResponse(Member member, Attendance attendance) {
-            this.id = member.getId();
-            this.name = member.getName();
-            this.totalTalent = member.getTalent();
+        // 생성자 (조회 Projection -> DTO)
+        public LoadResponse(BoardRow row) {
+            this.id = row.memberId();
+            this.name = row.name();
+            this.totalTalent = row.totalTalent();
             
-            if (attendance != null) {
+            if (row.hasSnapshot()) {
                 // 스냅샷이 있으면
-                this.attendance = attendance.getStatus();
-                this.reason = attendance.getReason();
-                this.note = attendance.getNote();
-                this.talent = attendance.getTalent();
+                this.attendance = row.status();
+                this.reason = row.reason();
+                this.note = row.note();
+                this.talent = row.talent();
             } else {
                 // 스냅샷이 없으면 (결석 처리)
                 this.attendance = "Absent";
@@ -82,4 +83,170 @@ public class AttendanceDto {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 출결판 조회용 Projection (Member + 스냅샷 LEFT JOIN 한 줄)
+     * - 관리 엔티티 없이 JPQL 생성자 표현식으로 바로 생성됩니다.
+     * - onRoster: 출결판에 표시할 대상자인지 (오늘: 활성 회원, 과거: 스냅샷 회원)
+     * - status 가 null 이면 스냅샷 없음
+     */
+    public record BoardRow(Long memberId, String name, Integer totalTalent, Boolean onRoster,
+                           String status, String reason, String note, Integer talent) {
+
+        public boolean hasSnapshot() {
+            return status != null;
+        }
+    }
+
+    /**
+     * 회원별 출결 이력 한 줄 (Projection)
+     */
+    public record HistoryRow(Long id, LocalDate date, String status, String reason, String note, Integer talent) {
+    }
+
+    /**
+     * (교구) 장기 결석자 한 줄 (Projection)
+     */
+    public record AbsenteeRow(Long memberId, String name, Long groupId, String groupName,
+            int absenceStreak, LocalDate lastPresentDate, LocalDate lastAttendanceDate) {
+    }
+
+    /**
+     * 증분 동기화 PATCH 요청 (바뀐 회원만)
+     * - idempotencyKey: 클라이언트가 '한 번의 제출'마다 만든 키. 재전송 시 같은 키를 보내면 다시 저장하지 않음
+     * - baseVersion: 클라이언트가 가진 출결판 버전 (응답에는 그 이후 변경분이 담김)
+     */
+    @Getter
+    @Setter
+    public static class SyncPatchRequest {
+        private String date;
+        private String idempotencyKey;
+        private Long baseVersion;
+        private List<AttendanceRecordDto> records;
+    }
+
+    /**
+     * 증분 동기화 응답
+     * - full = true 이면 records 는 출결판 전체 (클라이언트 상태를 통째로 교체)
+     * - full = false 이면 records 는 since 이후 바뀐 회원만 (memberId 기준으로 덮어쓰기)
+     *   (이때 snapshotLoaded 는 '이번 변경분에 저장된 기록이 있는지')
+     */
+    @Getter
+    public static class SyncResponse {
+        private final long version;    // 👈 다음 요청의 since / baseVersion
+        private final boolean full;
+        private final boolean snapshotLoaded;
+        private final List<LoadResponse> records;
+
+        public SyncResponse(long version, boolean full, boolean snapshotLoaded, List<LoadResponse> records) {
+            this.version = version;
+            this.full = full;
+            this.snapshotLoaded = snapshotLoaded;
+            this.records = records;
+        }
+    }
+
+    /**
+     * 실시간 공동 편집 이벤트 (바뀐 회원만)
+     * - talentDeltas: 회원별 누적 달란트 증감 (Key: member_id)
+     */
+    public record LiveChange(long version, String editor, List<AttendanceRecordDto> records,
+                             Map<Long, Integer> talentDeltas) {
+    }
+
+    /**
+     * 실시간 채널 구독 티켓 (EventSource 는 Authorization 헤더를 보낼 수 없으므로 쿼리 파라미터로 전달)
+     * - expiresIn: 유효 시간(초) - 이 안에 구독을 시작해야 하고, 재연결할 때는 새 티켓을 받아야 합니다.
+     */
+    public record LiveTicket(String ticket, long expiresIn) {
+    }
+
+    /**
+     * 과거 출결 CSV 가져오기 결과 리포트
+     * - completed 가 false 이면 resumeFromLine 부터 다시 요청하면 이어서 가져옵니다.
+     *   (이미 등록된 (회원, 날짜) 는 건너뛰므로 겹쳐서 다시 보내도 안전)
+     */
+    @Getter
+    public static class ImportReport {
+        public static final int MAX_REJECTIONS = 1000; // 👈 리포트에 담을 거부 줄 최대 수
+
+        private int totalLines;     // 👈 읽은 데이터 줄 수 (헤더 제외)
+        private int imported;       // 👈 새로 저장된 스냅샷 수
+        private int skipped;        // 👈 이미 등록되어 건너뛴 수
+        private int rejectedCount;  // 👈 검증 실패 줄 수
+        private List<Rejection> rejected = new ArrayList<>();
+        private boolean completed;
+        private Integer resumeFromLine; // 👈 실패한 청크의 첫 줄 번호
+        private String error;
+
+        public void countLine() {
+            totalLines++;
+        }
+
+        public void reject(int lineNumber, String reason) {
+            rejectedCount++;
+            if (rejected.size() < MAX_REJECTIONS) {
+                rejected.add(new Rejection(lineNumber, reason));
+            }
+        }
+
+        public void addChunk(int imported, int skipped) {
+            this.imported += imported;
+            this.skipped += skipped;
+        }
+
+        public void complete() {
+            this.completed = true;
+        }
+
+        public void fail(int resumeFromLine, String error) {
+            this.resumeFromLine = resumeFromLine;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 가져오기 거부 줄 (CSV 물리 줄 번호, 사유)
+     */
+    public record Rejection(int lineNumber, String reason) {
+    }
+
+    /**
+     * 회원별 출결 이력 응답 (최신순, keyset 페이지)
+     * - 출석률/연속 기록은 페이지가 아니라 '전체 이력' 기준이며, 첫 페이지(cursor 없음)에만 담습니다.
+     */
+    @Getter
+    public static class MemberHistoryResponse {
+        private Long memberId;
+        private List<HistoryRow> records;
+        private String nextCursor;      // 👈 다음 페이지 커서 ("YYYY-MM-DD_id"), 마지막이면 null
+        private HistorySummary summary; // 👈 전체 이력 요약 (첫 페이지에만, 이후 페이지는 null)
+
+        public MemberHistoryResponse(Long memberId, List<HistoryRow> records, String nextCursor, HistorySummary summary) {
+            this.memberId = memberId;
+            this.records = records;
+            this.nextCursor = nextCursor;
+            this.summary = summary;
+        }
+    }
+
+    /**
+     * 회원 출결 전체 이력 요약
+     */
+    @Getter
+    public static class HistorySummary {
+        private long totalCount;     // 👈 전체 기록 수
+        private long presentCount;   // 👈 전체 출석 수
+        private double presentRate;  // 👈 전체 출석률 (0.0 ~ 1.0)
+        private long presentStreak;  // 👈 가장 최근부터 연속 출석 횟수
+        private long absentStreak;   // 👈 가장 최근부터 연속 결석 횟수 (MEMBER_ABSENCE_STREAK 읽기 모델)
+
+        public HistorySummary(long totalCount, long presentCount, long presentStreak, long absentStreak) {
+            this.totalCount = totalCount;
+            this.presentCount = presentCount;
+            this.presentRate = totalCount == 0 ? 0.0 : (double) presentCount / totalCount;
+            this.presentStreak = presentStreak;
+            this.absentStreak = absentStreak;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.min.ca.attendance;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 출결 내보내기용 스트리밍 저장소
+ * - MySQL 드라이버는 fetchSize = Integer.MIN_VALUE 인 forward-only 조회를 '행 단위 스트리밍'으로 처리합니다.
+ * - 결과 전체를 메모리에 올리지 않으므로 기간(1개월 ~ 수년)과 무관하게 메모리 사용량이 일정합니다.
+ */
+@Repository
+public class AttendanceExportRepository {
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public AttendanceExportRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE); // 🔑 MySQL 스트리밍 ResultSet
+    }
+
+    /**
+     * 여러 속의 기간 내 출결 스냅샷을 날짜 -> 속 -> 회원 순으로 한 행씩 전달
+     */
+    public void streamRows(Collection<Long> groupIds, LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(groupIds);
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+
+        String placeholders = String.join(", ", Collections.nCopies(groupIds.size(), "?"));
+        streamingJdbcTemplate.query(
+                "SELECT a.attendance_date, g.group_name, m.name, a.status, a.talent, a.reason, a.note " +
+                "FROM attendance a " +
+                "JOIN member m ON m.member_id = a.member_id " +
+                "JOIN church_group g ON g.group_id = a.group_id " +
+                "WHERE a.group_id IN (" + placeholders + ") AND a.attendance_date BETWEEN ? AND ? " +
+                "ORDER BY a.attendance_date, a.group_id, a.member_id",
+                handler, args.toArray());
+    }
+}
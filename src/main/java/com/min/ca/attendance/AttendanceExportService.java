@@ -0,0 +1,84 @@
+package com.min.ca.attendance;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출결 CSV 내보내기
+ * - DB 에서 한 행을 읽을 때마다 바로 CSV 한 줄을 응답 스트림에 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceExportService {
+
+    private static final String HEADER = "날짜,속,이름,출결,달란트,사유,비고";
+
+    private final AttendanceExportRepository exportRepository;
+
+    public void writeCsv(Collection<Long> groupIds, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        // 🔑 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+
+        exportRepository.streamRows(groupIds, from, to, rs -> {
+            try {
+                writer.write(rs.getDate(1).toLocalDate().toString());
+                writer.write(',');
+                writer.write(escape(rs.getString(2)));
+                writer.write(',');
+                writer.write(escape(rs.getString(3)));
+                writer.write(',');
+                writer.write(AttendanceStatus.fromCode(rs.getInt(4)).getLabel());
+                writer.write(',');
+                writer.write(Integer.toString(rs.getInt(5)));
+                writer.write(',');
+                writer.write(escape(rs.getString(6)));
+                writer.write(',');
+                writer.write(escape(rs.getString(7)));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                // (클라이언트 연결 끊김 등) 조회를 중단시키기 위해 런타임 예외로 전달
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.flush();
+    }
+
+    // 1. 수식으로 시작하면 작은따옴표를 붙여 글자로 만들기 (CSV 수식 주입 방지)
+    // 2. 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸기 (RFC 4180)
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (startsWithFormula(value)) {
+            value = "'" + value; // 👈 엑셀/시트가 =, +, -, @ 로 시작하는 칸을 수식으로 실행하지 않도록
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    static boolean startsWithFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
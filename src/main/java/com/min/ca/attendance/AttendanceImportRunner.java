@@ -0,0 +1,69 @@
+package com.min.ca.attendance;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.user.User;
+import com.min.ca.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 출결 CSV 가져오기 명령 (대용량 파일용)
+ * - 실행: java -jar app.jar --import-attendance=/path/records.csv --import-user=교구장아이디 [--import-start-line=N]
+ * - 교구장(Role 1) / 교역자(Role 4) 계정의 '교구' 산하 속으로 가져옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceImportRunner implements ApplicationRunner {
+
+    public static final String OPTION = "import-attendance";
+    public static final String USER_OPTION = "import-user";
+    public static final String START_LINE_OPTION = "import-start-line";
+
+    private final AttendanceImportService importService;
+    private final UserRepository userRepository;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        Path path = Path.of(single(args, OPTION));
+        User user = userRepository.findByUsername(single(args, USER_OPTION))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        if (user.getRole() != 1 && user.getRole() != 4) {
+            throw new IllegalArgumentException("교구장 또는 교역자 계정만 가져올 수 있습니다.");
+        }
+        int startLine = args.containsOption(START_LINE_OPTION) ? Integer.parseInt(single(args, START_LINE_OPTION)) : 1;
+
+        AttendanceDto.ImportReport report;
+        try (InputStream in = Files.newInputStream(path)) {
+            report = importService.importCsv(in, user.getGroup().getId(), user.getId(), startLine);
+        }
+
+        log.info("출결 가져오기: {}줄, 저장 {}, 건너뜀 {}, 거부 {}",
+                report.getTotalLines(), report.getImported(), report.getSkipped(), report.getRejectedCount());
+        report.getRejected().forEach(rejection ->
+                log.info("  거부 line {}: {}", rejection.lineNumber(), rejection.reason()));
+        if (!report.isCompleted()) {
+            log.error("출결 가져오기 중단: {} (--{}={} 로 다시 실행)", report.getError(), START_LINE_OPTION, report.getResumeFromLine());
+        }
+    }
+
+    private String single(ApplicationArguments args, String option) {
+        List<String> values = args.getOptionValues(option);
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("--" + option + " 값이 필요합니다.");
+        }
+        return values.get(0);
+    }
+}
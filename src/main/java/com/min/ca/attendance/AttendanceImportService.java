@@ -0,0 +1,249 @@
+package com.min.ca.attendance;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.member.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 출결 CSV 일괄 가져오기 (교구 단위)
+ * - 형식은 내보내기와 같습니다: 날짜,속,이름,출결,달란트,사유,비고 (첫 줄 헤더/UTF-8 BOM 허용)
+ * - 파일을 한 레코드씩 읽고, 속/회원은 시작 시 한 번 만든 메모리 맵(속 이름 -> 회원 이름 -> ID)으로 찾습니다.
+ * - chunkSize 줄마다 한 트랜잭션으로 저장하고, 청크가 실패하면 그 청크의 첫 줄 번호를 돌려줍니다.
+ *   (startLine 으로 다시 요청하면 이어서 가져옴)
+ */
+@Slf4j
+@Service
+public class AttendanceImportService {
+
+    private static final long AMBIGUOUS = -1L; // 👈 같은 속에 동명이인
+
+    private final ChurchGroupHierarchy groupHierarchy;
+    private final MemberRepository memberRepository;
+    private final AttendanceImportWriter importWriter;
+    private final int chunkSize;
+
+    public AttendanceImportService(ChurchGroupHierarchy groupHierarchy,
+                                   MemberRepository memberRepository,
+                                   AttendanceImportWriter importWriter,
+                                   @Value("${attendance.import.chunk-size:1000}") int chunkSize) {
+        this.groupHierarchy = groupHierarchy;
+        this.memberRepository = memberRepository;
+        this.importWriter = importWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param parishId  가져올 교구 (권한 검사는 호출 측)
+     * @param userId    기록자 (스냅샷의 user_id)
+     * @param startLine 이 줄 번호부터 가져오기 (1 = 처음부터)
+     */
+    public AttendanceDto.ImportReport importCsv(InputStream in, Long parishId, Long userId, int startLine) throws IOException {
+        // 1. 교구 산하 속/회원 이름 맵 (Key: 속 이름 -> (Key: 회원 이름, Value: member_id))
+        if (groupHierarchy.find(parishId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 그룹입니다.");
+        }
+        Map<String, Long> groupIdByName = new HashMap<>();
+        for (ChurchGroupHierarchy.Node group : groupHierarchy.children(parishId)) {
+            groupIdByName.put(group.name().trim(), group.id());
+        }
+        Map<Long, Map<String, Long>> memberIdByName = new HashMap<>();
+        if (!groupIdByName.isEmpty()) {
+            for (MemberRepository.NameKey member : memberRepository.findNameKeys(groupIdByName.values())) {
+                memberIdByName.computeIfAbsent(member.getGroupId(), id -> new HashMap<>())
+                        .merge(member.getName().trim(), member.getId(), (a, b) -> AMBIGUOUS);
+            }
+        }
+
+        // 2. 한 레코드씩 읽으며 검증 -> 청크가 차면 저장
+        AttendanceDto.ImportReport report = new AttendanceDto.ImportReport();
+        LocalDate today = LocalDate.now();
+        List<AttendanceImportWriter.Row> chunk = new ArrayList<>(chunkSize);
+
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> fields;
+        while ((fields = reader.next()) != null) {
+            int lineNumber = reader.recordLine;
+            if (lineNumber == 1 && !fields.isEmpty() && "날짜".equals(fields.get(0).trim())) {
+                continue; // 헤더
+            }
+            if (lineNumber < startLine || (fields.size() == 1 && fields.get(0).isBlank())) {
+                continue;
+            }
+            report.countLine();
+
+            AttendanceImportWriter.Row row = parse(fields, lineNumber, today, groupIdByName, memberIdByName, report);
+            if (row != null) {
+                chunk.add(row);
+            }
+            if (chunk.size() >= chunkSize && !flush(chunk, userId, report)) {
+                return report;
+            }
+        }
+        if (!chunk.isEmpty() && !flush(chunk, userId, report)) {
+            return report;
+        }
+        report.complete();
+        return report;
+    }
+
+    // 🔑 청크 저장 (실패 시 리포트에 재개 줄 번호를 남기고 false)
+    private boolean flush(List<AttendanceImportWriter.Row> chunk, Long userId, AttendanceDto.ImportReport report) {
+        int firstLine = chunk.get(0).lineNumber();
+        try {
+            int[] result = importWriter.writeChunk(chunk, userId);
+            report.addChunk(result[0], result[1]);
+            chunk.clear();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("출결 가져오기 청크 실패 (line {}~): {}", firstLine, e.getMessage());
+            report.fail(firstLine, e.getMessage());
+            return false;
+        }
+    }
+
+    // 🔑 한 줄 검증 (실패하면 리포트에 사유를 남기고 null)
+    private AttendanceImportWriter.Row parse(List<String> fields, int lineNumber, LocalDate today,
+                                             Map<String, Long> groupIdByName,
+                                             Map<Long, Map<String, Long>> memberIdByName,
+                                             AttendanceDto.ImportReport report) {
+        if (fields.size() < 4) {
+            report.reject(lineNumber, "열 개수 부족 (날짜,속,이름,출결 필수)");
+            return null;
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(fields.get(0).trim());
+        } catch (DateTimeParseException e) {
+            report.reject(lineNumber, "날짜 형식 오류: " + fields.get(0));
+            return null;
+        }
+        if (date.isAfter(today)) {
+            report.reject(lineNumber, "미래 날짜: " + date);
+            return null;
+        }
+
+        Long groupId = groupIdByName.get(unescape(fields.get(1)).trim());
+        if (groupId == null) {
+            report.reject(lineNumber, "교구에 없는 속: " + fields.get(1));
+            return null;
+        }
+        Long memberId = memberIdByName.getOrDefault(groupId, Map.of()).get(unescape(fields.get(2)).trim());
+        if (memberId == null) {
+            report.reject(lineNumber, "속에 없는 회원: " + fields.get(2));
+            return null;
+        }
+        if (memberId == AMBIGUOUS) {
+            report.reject(lineNumber, "동명이인: " + fields.get(2));
+            return null;
+        }
+
+        String status;
+        try {
+            status = AttendanceStatus.fromLabel(fields.get(3).trim()).getLabel();
+        } catch (IllegalArgumentException e) {
+            report.reject(lineNumber, "출결 값 오류: " + fields.get(3));
+            return null;
+        }
+
+        int talent = 0;
+        if (fields.size() > 4 && !fields.get(4).isBlank()) {
+            try {
+                talent = Integer.parseInt(fields.get(4).trim());
+            } catch (NumberFormatException e) {
+                report.reject(lineNumber, "달란트 값 오류: " + fields.get(4));
+                return null;
+            }
+        }
+        String reason = fields.size() > 5 ? unescape(fields.get(5)) : "";
+        String note = fields.size() > 6 ? unescape(fields.get(6)) : "";
+
+        return new AttendanceImportWriter.Row(lineNumber, memberId, groupId, date, status, reason, note, talent);
+    }
+
+    // 🔑 내보내기가 수식 방지용으로 붙인 작은따옴표를 떼어 내보낸 파일을 그대로 다시 가져올 수 있게 함
+    private static String unescape(String value) {
+        if (value.length() > 1 && value.charAt(0) == '\'' && AttendanceExportService.startsWithFormula(value.substring(1))) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    /**
+     * RFC 4180 CSV 레코드 리더 (따옴표 안의 쉼표/줄바꿈 허용)
+     */
+    private static final class CsvReader {
+        private final BufferedReader reader;
+        private int lineNumber; // 마지막으로 읽은 물리 줄 번호
+        private int recordLine; // 현재 레코드가 시작된 줄 번호
+
+        private CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private List<String> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            recordLine = lineNumber;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1); // UTF-8 BOM
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                // 따옴표 안의 줄바꿈 -> 다음 물리 줄을 이어 읽음
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
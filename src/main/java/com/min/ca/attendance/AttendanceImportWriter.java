@@ -0,0 +1,131 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.min.ca.analytics.AttendanceAnalyticsStore;
+import com.min.ca.group.ChurchGroupRepository;
+import com.min.ca.member.MemberRepository;
+import com.min.ca.member.TalentLedger;
+import com.min.ca.member.TalentLedgerService;
+import com.min.ca.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출결 가져오기 청크 저장 (청크 1개 = 트랜잭션 1개)
+ * - 스냅샷은 JPA 배치 INSERT, 달란트는 회원별 합계를 원장에 한 줄씩 추가합니다.
+ * - 이미 등록된 (회원, 날짜) 는 건너뛰므로 같은 청크를 다시 보내도 중복 저장되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceImportWriter {
+
+    private final AttendanceRepository attendanceRepository;
+    private final MemberRepository memberRepository;
+    private final ChurchGroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final AttendanceDailySummaryRepository dailySummaryRepository;
+    private final AttendanceBoardVersionRepository boardVersionRepository;
+    private final MemberAbsenceStreakRepository absenceStreakRepository;
+    private final TalentLedgerService talentLedgerService;
+    private final AttendanceDateIndex attendanceDateIndex;
+    private final AttendanceBoardCache boardCache;
+    private final AttendanceLiveHub liveHub;
+    private final AttendanceAnalyticsStore analyticsStore;
+
+    /**
+     * 가져오기 한 줄 (검증 완료)
+     */
+    public record Row(int lineNumber, Long memberId, Long groupId, LocalDate date,
+                      String status, String reason, String note, int talent) {
+    }
+
+    /**
+     * @return [0] 저장 수, [1] 건너뛴 수
+     */
+    @Transactional
+    public int[] writeChunk(List<Row> rows, Long userId) {
+        // 1. 이미 등록된 (회원, 날짜) 를 '한 번의 쿼리'로 조회
+        Set<Long> memberIds = new LinkedHashSet<>();
+        LocalDate from = rows.get(0).date();
+        LocalDate to = from;
+        for (Row row : rows) {
+            memberIds.add(row.memberId());
+            from = row.date().isBefore(from) ? row.date() : from;
+            to = row.date().isAfter(to) ? row.date() : to;
+        }
+        Set<String> existing = new HashSet<>();
+        attendanceRepository.findSnapshotKeys(memberIds, from, to)
+                .forEach(key -> existing.add(key.getMemberId() + "_" + key.getDate()));
+
+        // 2. 새 스냅샷 + 회원별 달란트 합계 + (group, date) 별 출석 여부 모으기
+        List<Attendance> snapshots = new ArrayList<>();
+        Map<Long, Integer> talentTotals = new LinkedHashMap<>();
+        Map<GroupDay, Map<Long, Boolean>> boards = new LinkedHashMap<>();
+        Map<GroupDay, Map<Long, Integer>> boardTalents = new LinkedHashMap<>();
+        for (Row row : rows) {
+            if (!existing.add(row.memberId() + "_" + row.date())) {
+                continue; // 👈 DB 에 이미 있음
+            }
+            snapshots.add(Attendance.builder()
+                    .member(memberRepository.getReferenceById(row.memberId()))
+                    .group(groupRepository.getReferenceById(row.groupId()))
+                    .user(userRepository.getReferenceById(userId))
+                    .date(row.date())
+                    .status(row.status())
+                    .reason(row.reason())
+                    .note(row.note())
+                    .talent(row.talent())
+                    .build());
+            if (row.talent() != 0) {
+                talentTotals.merge(row.memberId(), row.talent(), Integer::sum);
+            }
+            GroupDay key = new GroupDay(row.groupId(), row.date());
+            boards.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                    .put(row.memberId(), AttendanceStatus.PRESENT.getLabel().equals(row.status()));
+            if (row.talent() != 0) {
+                boardTalents.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                        .merge(row.memberId(), row.talent(), Integer::sum);
+            }
+        }
+
+        if (snapshots.isEmpty()) {
+            return new int[] {0, rows.size()};
+        }
+
+        // 3. [배치 저장] 스냅샷 INSERT + 달란트 원장 (회원별 합계 한 줄)
+        attendanceRepository.saveAllAndFlush(snapshots);
+        talentLedgerService.append(talentTotals, TalentLedger.Reason.IMPORT, null, userId);
+
+        // 4. [읽기 모델] 요약은 (group, date) 별, 연속 결석은 회원 묶음으로 재계산
+        //    (동기화 중인 클라이언트가 있으면 전체 재조회하도록 출결판 버전 reset)
+        boards.keySet().forEach(key -> {
+            dailySummaryRepository.refresh(key.groupId(), key.date());
+            boardVersionRepository.reset(key.groupId(), key.date());
+        });
+        absenceStreakRepository.refresh(memberIds);
+
+        // 5. [인메모리 인덱스] 커밋 이후 반영
+        boards.forEach((key, presence) -> {
+            attendanceDateIndex.markSaved(key.groupId(), key.date());
+            boardCache.evict(key.groupId(), key.date());
+            liveHub.publishReset(key.groupId(), key.date());
+            analyticsStore.recordBoard(key.groupId(), key.date(), presence, boardTalents.getOrDefault(key, Map.of()));
+        });
+
+        return new int[] {snapshots.size(), rows.size() - snapshots.size()};
+    }
+
+    private record GroupDay(Long groupId, LocalDate date) {
+    }
+}
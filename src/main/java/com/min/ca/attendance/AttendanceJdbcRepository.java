@@ -0,0 +1,51 @@
+package com.min.ca.attendance;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출결 일괄 저장용 JDBC 저장소
+ * - JPA 엔티티를 하나씩 save 하지 않고, 'JDBC 배치'로 처리합니다.
+ * - (주의) 신규 INSERT는 id_sequences 기반 ID 생성을 거쳐야 하므로 JPA 배치(saveAll)로 처리합니다.
+ * - (주의) 테이블/컬럼명은 Hibernate 물리 이름(소문자 + snake_case) 기준입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    // 🔑 한 번에 묶어서 보낼 배치 크기
+    static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 1. 기존 스냅샷 일괄 UPDATE (JDBC 배치, (member_id, attendance_date) 기준)
+     */
+    public void updateSnapshots(Long userId, Long groupId, LocalDate date, long version,
+                                List<AttendanceDto.AttendanceRecordDto> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE attendance SET user_id = ?, group_id = ?, status = ?, talent = ?, reason = ?, note = ?, version = ? " +
+                "WHERE member_id = ? AND attendance_date = ?",
+                records, BATCH_SIZE,
+                (ps, record) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, groupId);
+                    ps.setInt(3, AttendanceStatus.fromLabel(record.getStatus()).getCode());
+                    ps.setInt(4, record.getTalent());
+                    ps.setString(5, record.getReason());
+                    ps.setString(6, record.getNote());
+                    ps.setLong(7, version);
+                    ps.setLong(8, record.getMemberId());
+                    ps.setDate(9, Date.valueOf(date));
+                });
+    }
+}
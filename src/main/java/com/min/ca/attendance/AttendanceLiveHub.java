@@ -0,0 +1,103 @@
+package com.min.ca.attendance;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.min.ca.config.AfterCommit;
+
+/**
+ * 출결판 실시간 공동 편집 채널 (SSE)
+ * - (group, date) 마다 구독자 목록을 두고, 저장이 커밋되면 '바뀐 회원만' 담은 작은 이벤트를 보냅니다.
+ * - 이벤트의 version 은 출결판 버전(서버가 정한 저장 순서)입니다. 클라이언트는 회원별로
+ *   더 큰 version 의 값만 적용하면 두 기기의 변경이 같은 결과로 합쳐집니다. (회원 단위 last-writer-wins)
+ */
+@Component
+public class AttendanceLiveHub {
+
+    public static final String CHANGE_EVENT = "change";
+    public static final String RESET_EVENT = "reset";
+
+    private final long timeoutMillis;
+    private final Map<Key, List<SseEmitter>> channels = new ConcurrentHashMap<>();
+
+    public AttendanceLiveHub(@Value("${attendance.live.timeout-millis:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 1. 구독 (연결이 끊기거나 시간이 지나면 자동 해제)
+     */
+    public SseEmitter subscribe(Long groupId, LocalDate date, long version) {
+        Key key = new Key(groupId, date);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        channels.compute(key, (k, emitters) -> {
+            List<SseEmitter> list = emitters == null ? new CopyOnWriteArrayList<>() : emitters;
+            list.add(emitter);
+            return list;
+        });
+
+        Runnable remove = () -> unsubscribe(key, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        // 🔑 연결 직후 현재 버전을 알려줌 (클라이언트는 이 버전 이후 변경만 받으면 됨)
+        try {
+            emitter.send(SseEmitter.event().name("hello").data(Map.of("version", version)));
+        } catch (IOException e) {
+            unsubscribe(key, emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * 2. 저장 이벤트 (커밋 이후 전송)
+     */
+    public void publishChange(Long groupId, LocalDate date, long version, String editor,
+                              List<AttendanceDto.AttendanceRecordDto> records, Map<Long, Integer> talentDeltas) {
+        AttendanceDto.LiveChange change = new AttendanceDto.LiveChange(version, editor, records, talentDeltas);
+        AfterCommit.run(() -> broadcast(new Key(groupId, date), CHANGE_EVENT, change));
+    }
+
+    /**
+     * 3. 삭제/명단 변경 이벤트 (클라이언트는 전체 출결판을 다시 받음)
+     */
+    public void publishReset(Long groupId, LocalDate date) {
+        AfterCommit.run(() -> broadcast(new Key(groupId, date), RESET_EVENT, Map.of()));
+    }
+
+    private void broadcast(Key key, String eventName, Object data) {
+        List<SseEmitter> emitters = channels.get(key);
+        if (emitters == null) {
+            return;
+        }
+        List<SseEmitter> failed = new ArrayList<>();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException | IllegalStateException e) {
+                failed.add(emitter); // 👈 끊긴 연결
+            }
+        }
+        failed.forEach(emitter -> unsubscribe(key, emitter));
+    }
+
+    private void unsubscribe(Key key, SseEmitter emitter) {
+        channels.computeIfPresent(key, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private record Key(Long groupId, LocalDate date) {
+    }
+}
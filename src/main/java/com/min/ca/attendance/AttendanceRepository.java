@@ -1,10 +1,15 @@
 package com.min.ca.attendance; // (Attendance.java와 동일한 패키지)
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,17 +17,137 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
+    // 🔑 회원의 현재 누적 달란트 = 압축 잔액 + 미압축 원장 delta 합계 (TalentLedger 참고)
+    String CURRENT_BALANCE = "CAST(m.talent + COALESCE((SELECT SUM(l.delta) FROM TalentLedger l " +
+            "WHERE l.member = m AND l.compactionBatch IS NULL), 0) AS Integer)";
+
     // 🔑 1. (저장 시) 특정 날짜에 특정 회원의 출결 기록이 이미 있는지 확인 (중복 저장 방지)
     Optional<Attendance> findByMemberIdAndDate(Long memberId, LocalDate date);
 
     // 🔑 2. (조회 시) 특정 날짜에 특정 그룹의 모든 출결 기록을 조회 (출결판 로드용)
     List<Attendance> findAllByGroupIdAndDate(Long groupId, LocalDate date);
     
-    @Query("SELECT DISTINCT a.date FROM Attendance a WHERE a.group.id = :groupId")
-    List<LocalDate> findDistinctDatesByGroupId(@Param("groupId") Long groupId);
-    
-    @Query("SELECT DISTINCT a.date FROM Attendance a " +
-            "JOIN a.group g " +
-            "WHERE g.parent.id = :parishGroupId")
-     List<LocalDate> findDistinctDatesByParish(@Param("parishGroupId") Long parishGroupId);
-}
\ No newline at end of file
+    // 🔑 (오늘 출결판) 활성 회원 + 오늘 스냅샷
+    //    두 쿼리 모두 인덱스로 찾아 들어가도록 나눠 조회한 뒤 회원 ID 순으로 합칩니다.
+    //    (MEMBER 와 LEFT JOIN 된 ATTENDANCE 에 걸친 OR 조건은 MEMBER 전체를 읽게 됨)
+    default List<AttendanceDto.BoardRow> findTodayBoard(Long groupId, LocalDate date) {
+        List<AttendanceDto.BoardRow> rows = new ArrayList<>(findRosterBoard(groupId, date));
+        List<AttendanceDto.BoardRow> offRoster = findOffRosterSnapshots(groupId, date);
+        if (!offRoster.isEmpty()) {
+            rows.addAll(offRoster);
+            rows.sort(Comparator.comparing(AttendanceDto.BoardRow::memberId));
+        }
+        return rows;
+    }
+
+    // 🔑 (오늘 출결판 1) 이 그룹의 활성 회원 + 오늘 스냅샷 (MEMBER.group_id 인덱스)
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$BoardRow(" +
+           "m.id, m.name, " + CURRENT_BALANCE + ", true, " +
+           "a.status, a.reason, a.note, a.talent) " +
+           "FROM Member m " +
+           "LEFT JOIN Attendance a ON a.member = m AND a.group.id = :groupId AND a.date = :date " +
+           "WHERE m.group.id = :groupId AND m.isActive = true " +
+           "ORDER BY m.id")
+    List<AttendanceDto.BoardRow> findRosterBoard(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 (오늘 출결판 2) 명단에는 없지만(비활성/다른 속으로 이동) 이 그룹의 오늘 스냅샷이 있는 회원
+    //    (ATTENDANCE (group_id, date) 인덱스 - isSnapshotLoaded 판단용)
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$BoardRow(" +
+           "m.id, m.name, " + CURRENT_BALANCE + ", false, " +
+           "a.status, a.reason, a.note, a.talent) " +
+           "FROM Attendance a JOIN a.member m " +
+           "WHERE a.group.id = :groupId AND a.date = :date " +
+           "AND (m.group IS NULL OR m.group.id <> :groupId OR m.isActive = false)")
+    List<AttendanceDto.BoardRow> findOffRosterSnapshots(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 (과거 출결판) 그날의 스냅샷 + 회원 정보를 '한 번의 JOIN'으로 조회 (is_active 무관)
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$BoardRow(" +
+           "m.id, m.name, " + CURRENT_BALANCE + ", true, a.status, a.reason, a.note, a.talent) " +
+           "FROM Attendance a JOIN a.member m " +
+           "WHERE a.group.id = :groupId AND a.date = :date " +
+           "ORDER BY m.id")
+    List<AttendanceDto.BoardRow> findSnapshotBoard(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 (증분 동기화) since 버전 이후에 바뀐 스냅샷 행만 조회
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$BoardRow(" +
+           "m.id, m.name, " + CURRENT_BALANCE + ", true, a.status, a.reason, a.note, a.talent) " +
+           "FROM Attendance a JOIN a.member m " +
+           "WHERE a.group.id = :groupId AND a.date = :date AND a.version > :since " +
+           "ORDER BY m.id")
+    List<AttendanceDto.BoardRow> findChangedBoard(@Param("groupId") Long groupId, @Param("date") LocalDate date,
+                                                  @Param("since") long since);
+
+    // 🔑 (일괄 저장 시) 여러 회원의 특정 날짜 스냅샷 달란트를 '한 번의 쿼리'로 조회
+    @Query("SELECT a.member.id AS memberId, a.talent AS talent FROM Attendance a " +
+           "WHERE a.date = :date AND a.member.id IN :memberIds")
+    List<TalentSnapshot> findTalentSnapshots(@Param("memberIds") Collection<Long> memberIds,
+                                             @Param("date") LocalDate date);
+
+    // 🔑 (가져오기) 여러 회원의 기간 내 이미 등록된 (회원, 날짜) 를 '한 번의 쿼리'로 조회
+    @Query("SELECT a.member.id AS memberId, a.date AS date FROM Attendance a " +
+           "WHERE a.member.id IN :memberIds AND a.date BETWEEN :from AND :to")
+    List<SnapshotKey> findSnapshotKeys(@Param("memberIds") Collection<Long> memberIds,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 🔑 (삭제 시) 특정 그룹/날짜의 스냅샷 달란트를 엔티티 로딩 없이 조회 (롤백 계산용)
+    @Query("SELECT a.member.id AS memberId, a.talent AS talent FROM Attendance a " +
+           "WHERE a.group.id = :groupId AND a.date = :date")
+    List<TalentSnapshot> findTalentSnapshotsByGroup(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 (삭제 시) 특정 그룹/날짜의 스냅샷을 '한 번의 DELETE'로 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Attendance a WHERE a.group.id = :groupId AND a.date = :date")
+    int deleteAllByGroupIdAndDate(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 (회원 이력) 최신순 첫 페이지 - uk_attendance_member_date 인덱스 사용
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$HistoryRow(" +
+           "a.id, a.date, a.status, a.reason, a.note, a.talent) " +
+           "FROM Attendance a WHERE a.member.id = :memberId " +
+           "ORDER BY a.date DESC, a.id DESC")
+    List<AttendanceDto.HistoryRow> findHistory(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 🔑 (회원 이력) 커서 (date, id) 이후 페이지 - OFFSET 없이 인덱스에서 바로 이어서 읽음
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$HistoryRow(" +
+           "a.id, a.date, a.status, a.reason, a.note, a.talent) " +
+           "FROM Attendance a WHERE a.member.id = :memberId " +
+           "AND (a.date < :cursorDate OR (a.date = :cursorDate AND a.id < :cursorId)) " +
+           "ORDER BY a.date DESC, a.id DESC")
+    List<AttendanceDto.HistoryRow> findHistoryBefore(@Param("memberId") Long memberId,
+                                                     @Param("cursorDate") LocalDate cursorDate,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    // 🔑 (회원 이력 요약) 전체 기록 수 / 출석 수 / 가장 최근부터 연속 출석 수를 한 번에 - uk_attendance_member_date 범위 조회
+    //    presentSinceLastNotPresent = 마지막 '출석 아님' 보다 뒤의 기록 수 (비상관 서브쿼리라 한 번만 실행, '출석 아님' 이 없으면 0)
+    @Query("SELECT COUNT(a) AS total, " +
+           "COALESCE(SUM(CASE WHEN a.status = :present THEN 1 ELSE 0 END), 0) AS present, " +
+           "COALESCE(SUM(CASE WHEN a.date > (SELECT MAX(n.date) FROM Attendance n " +
+           "    WHERE n.member.id = :memberId AND n.status <> :present) THEN 1 ELSE 0 END), 0) AS presentSinceLastNotPresent " +
+           "FROM Attendance a WHERE a.member.id = :memberId")
+    HistoryCount countHistory(@Param("memberId") Long memberId, @Param("present") String present);
+
+    /**
+     * 스냅샷 달란트 조회용 Projection (엔티티 로딩 없이 필요한 값만)
+     */
+    interface TalentSnapshot {
+        Long getMemberId();
+        int getTalent();
+    }
+
+    /**
+     * 스냅샷 키 Projection (회원, 날짜)
+     */
+    interface SnapshotKey {
+        Long getMemberId();
+        LocalDate getDate();
+    }
+
+    /**
+     * 회원 이력 요약 Projection (전체 기록 수, 출석 수)
+     */
+    interface HistoryCount {
+        long getTotal();
+        long getPresent();
+        long getPresentSinceLastNotPresent();
+    }
+}
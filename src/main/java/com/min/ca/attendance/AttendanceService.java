@@ -1,19 +1,30 @@
 package com.min.ca.attendance;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.min.ca.analytics.AttendanceAnalyticsStore;
 import com.min.ca.group.ChurchGroup;
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.group.ChurchGroupRepository;
 import com.min.ca.member.Member;
 import com.min.ca.member.MemberRepository;
-import com.min.ca.user.User;
+import com.min.ca.member.TalentLedger;
+import com.min.ca.member.TalentLedgerService;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,132 +32,283 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AttendanceService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final AttendanceRepository attendanceRepository;
     private final MemberRepository memberRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final AttendanceDailySummaryRepository dailySummaryRepository;
+    private final MemberAbsenceStreakRepository absenceStreakRepository;
+    private final AttendanceDateIndex attendanceDateIndex;
+    private final AttendanceBoardCache boardCache;
+    private final AttendanceBoardVersionRepository boardVersionRepository;
+    private final AttendanceLiveHub liveHub;
+    private final TalentLedgerService talentLedgerService;
+    private final AttendanceAnalyticsStore analyticsStore;
+    private final ChurchGroupHierarchy groupHierarchy;
+    private final UserRepository userRepository;
+    private final ChurchGroupRepository groupRepository;
 
     /**
-     * 출결 데이터 저장 (2-Part Logic)
+     * 출결 데이터 저장 (2-Part Logic, 일괄 처리)
+     * - 회원 검증 1회 + 이전 스냅샷 조회 1회 + 스냅샷 배치 저장 + 달란트 원장 배치 INSERT
+     * - 출결판 인원이 늘어나도 쿼리 수는 일정하게 유지됩니다.
+     * - 요청에 포함된 회원만 저장하므로 일부 회원만 보내는 부분 저장(증분 동기화)에도 그대로 쓰입니다.
      * @param request DTO (날짜 + 학생 기록 리스트)
-     * @param user    로그인한 속장(User)
+     * @param user    로그인한 속장(UserPrincipal)
+     * @return 저장 후 출결판 버전 (저장할 기록이 없으면 -1)
      */
     @Transactional // 🔑 [중요] 두 개의 테이블을 수정하므로 트랜잭션으로 묶습니다.
-    public void saveAttendance(AttendanceDto.SaveRequest request, User user) {
+    public long saveAttendance(AttendanceDto.SaveRequest request, UserPrincipal user) {
         
         // 1. 공통 정보 추출
         LocalDate attendanceDate = LocalDate.parse(request.getDate()); // "YYYY-MM-DD" 형식
-        ChurchGroup group = user.getGroup();
+        Long groupId = user.getGroupId();
 
-        // 2. 학생 기록(records)을 하나씩 순회
+        // 2. 학생 기록을 회원 ID 기준으로 정리 (같은 회원이 중복되면 마지막 기록 사용)
+        //    🔑 출결 문자열은 여기서 한 번만 정규화 ("Present" 외에는 결석) -> 컨버터/JDBC 저장에서 예외 없음
+        Map<Long, AttendanceDto.AttendanceRecordDto> recordMap = new LinkedHashMap<>();
         for (AttendanceDto.AttendanceRecordDto record : request.getRecords()) {
-            
-            // 3. 대상 학생(Member)을 DB에서 조회
-            Member member = memberRepository.findById(record.getMemberId())
-                    .orElseThrow(() -> new IllegalArgumentException("회원 없음: " + record.getMemberId()));
-
-         // --- 
-            // 🔑 [수정] 스냅샷 저장 (Attendance 테이블)
-            // ---
-            
-            // a. 이 날짜의 '이전 스냅샷'을 DB에서 찾음
-            Attendance attendance = attendanceRepository
-                    .findByMemberIdAndDate(member.getId(), attendanceDate)
-                    .orElse(null); // 🔑 없으면 null
-
-            // b. '이전 달란트' 값을 저장 (없었으면 0)
-            int oldTalent = (attendance != null) ? attendance.getTalent() : 0;
-            
-            // (스냅샷이 없으면 새 객체 생성)
-            if (attendance == null) {
-                attendance = new Attendance();
+            record.setStatus(AttendanceStatus.fromApiLabel(record.getStatus()).getLabel());
+            recordMap.put(record.getMemberId(), record);
+        }
+        if (recordMap.isEmpty()) {
+            return -1L;
+        }
+
+        // 2-1. [출결판 잠금 + 버전] 트랜잭션의 '첫 쿼리'로 출결판 버전 행을 잠금
+        //      - 같은 출결판의 동시 저장(속장/예비속장 두 기기)은 여기서 한 줄로 세워지고,
+        //        뒤의 저장은 앞 저장이 커밋된 스냅샷 달란트를 읽어 조정값을 계산함 (달란트 이중 반영 없음)
+        //      - 바뀐 행에는 이 버전을 기록 (증분 동기화 시 'since 이후 바뀐 행'만 내려주기 위해)
+        long version = boardVersionRepository.nextVersion(groupId, attendanceDate);
+
+        // 3. 대상 학생(Member)이 모두 '내 속' 회원인지 '한 번의 쿼리'로 확인 (다른 속 회원 출결/달란트 기록 차단)
+        Set<Long> writableIds = new HashSet<>(
+                memberRepository.findWritableIds(recordMap.keySet(), groupId, attendanceDate));
+        for (Long memberId : recordMap.keySet()) {
+            if (!writableIds.contains(memberId)) {
+                throw new AccessDeniedException("출결을 기록할 수 없는 회원입니다: " + memberId);
             }
+        }
 
-            // c. 스냅샷 데이터 설정 (이제 talent 포함)
-            attendance.setMember(member);
-            attendance.setUser(user);
-            attendance.setGroup(group);
-            attendance.setDate(attendanceDate);
-            attendance.setStatus(record.getStatus());
-            attendance.setReason(record.getReason());
-            attendance.setNote(record.getNote());
-            attendance.setTalent(record.getTalent()); // 🔑 [신규] 새 달란트(예: 3)를 스냅샷에 저장
-            
-            attendanceRepository.save(attendance); 
-
-            // ---
-            // 🔑 [수정] 누적 달란트 저장 (Member 테이블)
-            // ---
-            
-            int newTalent = record.getTalent(); // (예: 3)
-            
-            // d. '조정값'을 계산 (새 점수 - 이전 점수)
-            // (예: 3 - 5 = -2)
-            int adjustment = newTalent - oldTalent; 
-            
+        // 4. 이 날짜의 '이전 스냅샷' 달란트를 '한 번의 쿼리'로 조회 (Key: member_id)
+        Map<Long, Integer> oldTalentMap = attendanceRepository
+                .findTalentSnapshots(recordMap.keySet(), attendanceDate).stream()
+                .collect(Collectors.toMap(
+                        AttendanceRepository.TalentSnapshot::getMemberId,
+                        AttendanceRepository.TalentSnapshot::getTalent,
+                        (a, b) -> a));
+
+        // 5. 메모리에서 신규/수정 스냅샷을 분리하고 달란트 '조정값'을 계산
+        List<AttendanceDto.AttendanceRecordDto> toInsert = new ArrayList<>();
+        List<AttendanceDto.AttendanceRecordDto> toUpdate = new ArrayList<>();
+        Map<Long, Integer> adjustments = new LinkedHashMap<>();
+
+        for (AttendanceDto.AttendanceRecordDto record : recordMap.values()) {
+            Integer oldTalent = oldTalentMap.get(record.getMemberId());
+
+            if (oldTalent == null) {
+                toInsert.add(record);
+                oldTalent = 0; // (스냅샷이 없었으면 이전 달란트는 0)
+            } else {
+                toUpdate.add(record);
+            }
+
+            // (예: 새 점수 3 - 이전 점수 5 = -2)
+            int adjustment = record.getTalent() - oldTalent;
             if (adjustment != 0) {
-                // e. MEMBER 테이블을 '조정값'만큼만 업데이트
-                member.setTalent(member.getTalent() + adjustment);
+                adjustments.put(record.getMemberId(), adjustment);
             }
         }
+
+        // 6. [스냅샷 저장] 신규는 JPA 배치 INSERT (hibernate.jdbc.batch_size), 기존은 JDBC 배치 UPDATE
+        //    (getReferenceById는 SELECT 없이 프록시만 생성)
+        //    바뀐 행에는 (2-1)에서 받은 새 출결판 버전을 기록
+        List<Attendance> newSnapshots = toInsert.stream()
+                .map(record -> Attendance.builder()
+                        .member(memberRepository.getReferenceById(record.getMemberId()))
+                        .user(userRepository.getReferenceById(user.getId()))
+                        .group(groupRepository.getReferenceById(groupId))
+                        .date(attendanceDate)
+                        .status(record.getStatus())
+                        .reason(record.getReason())
+                        .note(record.getNote())
+                        .talent(record.getTalent())
+                        .version(version)
+                        .build())
+                .collect(Collectors.toList());
+        attendanceRepository.saveAllAndFlush(newSnapshots);
+        attendanceJdbcRepository.updateSnapshots(user.getId(), groupId, attendanceDate, version, toUpdate);
+
+        // 7. [누적 달란트 저장] '조정값'을 달란트 원장에 배치로 추가 (MEMBER 행 잠금 없음)
+        talentLedgerService.append(adjustments, TalentLedger.Reason.ATTENDANCE, attendanceDate, user.getId());
+
+        // 8. [요약 갱신] 같은 트랜잭션에서 (group, date) 요약 행을 다시 계산
+        dailySummaryRepository.refresh(groupId, attendanceDate);
+        absenceStreakRepository.refresh(recordMap.keySet()); // 👈 이번 출결판 회원들의 연속 결석만 재계산
+        attendanceDateIndex.markSaved(groupId, attendanceDate);
+
+        // 9. [분석 저장소] 커밋 후 출석 여부 + 달란트 변동분 반영
+        Map<Long, Boolean> presence = new LinkedHashMap<>();
+        recordMap.values().forEach(record -> presence.put(record.getMemberId(), "Present".equals(record.getStatus())));
+        analyticsStore.recordBoard(groupId, attendanceDate, presence, adjustments);
+        boardCache.applySave(groupId, attendanceDate, recordMap.values(), adjustments); // 👈 캐시된 출결판은 DB 재조회 없이 갱신
+        liveHub.publishChange(groupId, attendanceDate, version, user.getName(),
+                new ArrayList<>(recordMap.values()), adjustments); // 👈 같은 출결판을 보고 있는 다른 기기에 변경분 전송
+        return version;
     }
+    /**
+     * 출결판 조회 (Member + 스냅샷을 한 번의 JOIN 쿼리로)
+     * - 오늘: 활성 회원 기준 (스냅샷이 있으면 덮어씀)
+     * - 과거: 그날의 스냅샷 회원 기준
+     */
     @Transactional(readOnly = true)
     public AttendanceDto.DayAttendanceResponse getAttendance(Long groupId, LocalDate date) {
         
     	LocalDate today = LocalDate.now();
-        // 1. 해당 날짜의 '출결 스냅샷' 목록을 먼저 조회
-        List<Attendance> attendanceRecords = attendanceRepository.findAllByGroupIdAndDate(groupId, date);
-        
-        List<Member> targetMembers; // 🔑 출결 대상자 리스트
+        if (!date.equals(today)) {
+            return loadBoard(groupId, date, today);
+        }
+
+        // 🔑 [오늘 출결판] 캐시 우선 (주일 오전에는 워밍업으로 미리 채워짐)
+        AttendanceDto.DayAttendanceResponse cached = boardCache.get(groupId, date);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = boardCache.stamp(groupId);
+        AttendanceDto.DayAttendanceResponse board = loadBoard(groupId, date, today);
+        boardCache.put(groupId, date, stamp, board);
+        return board;
+    }
 
+    /**
+     * 출결판 조회 (캐시를 거치지 않음 - 버전과 함께 일관된 값을 읽어야 하는 증분 동기화용)
+     */
+    @Transactional(readOnly = true)
+    public AttendanceDto.DayAttendanceResponse loadAttendance(Long groupId, LocalDate date) {
+        return loadBoard(groupId, date, LocalDate.now());
+    }
+
+    private AttendanceDto.DayAttendanceResponse loadBoard(Long groupId, LocalDate date, LocalDate today) {
+        List<AttendanceDto.BoardRow> rows;
         if (date.equals(today)) {
-            // [Case 1: 오늘 날짜] (11-01)
-            // 🔑 'is_active = 1'인 현재 멤버만 조회 (3명)
-            targetMembers = memberRepository.findAllByGroup_IdAndIsActive(groupId, true);
-            
-            // (오늘 날짜라도 '수정하기' 모드일 수 있으니 스냅샷을 조회는 합니다)
-            attendanceRecords = attendanceRepository.findAllByGroupIdAndDate(groupId, date);
-            
+            // [Case 1: 오늘 날짜] 'is_active = 1'인 현재 멤버 + 오늘 스냅샷
+            rows = attendanceRepository.findTodayBoard(groupId, date);
         } else {
-            // [Case 2: 과거 날짜] (10-28)
-            // 🔑 'is_active' 상관없이 그날의 스냅샷을 조회
-            attendanceRecords = attendanceRepository.findAllByGroupIdAndDate(groupId, date);
-            
-            if (!attendanceRecords.isEmpty()) {
-                // 🔑 스냅샷에서 멤버 목록을 복원 (4명)
-                targetMembers = attendanceRecords.stream()
-                                    .map(Attendance::getMember)
-                                    .collect(Collectors.toList());
-            } else {
-                // (과거인데 스냅샷이 없으면 빈 목록)
-                targetMembers = new ArrayList<>();
-            }
+            // [Case 2: 과거 날짜] 'is_active' 상관없이 그날의 스냅샷에서 멤버 목록을 복원
+            rows = attendanceRepository.findSnapshotBoard(groupId, date);
         }
-        // 3. (성능 향상) 스냅샷을 Map으로 변환
-        Map<Long, Attendance> attendanceMap = attendanceRecords.stream()
-                .collect(Collectors.toMap(att -> att.getMember().getId(), att -> att));
-
-        // 4. 'targetMembers'를 기준으로 DTO 생성
-        List<AttendanceDto.LoadResponse> responseList = targetMembers.stream()
-                .map(member -> {
-                    Attendance snapshot = attendanceMap.get(member.getId());
-                    return new AttendanceDto.LoadResponse(member, snapshot);
-                })
+
+        // 1. 출결판 대상자만 DTO로 변환
+        List<AttendanceDto.LoadResponse> responseList = rows.stream()
+                .filter(AttendanceDto.BoardRow::onRoster)
+                .map(AttendanceDto.LoadResponse::new)
                 .collect(Collectors.toList());
 
-        // 5. 최종 응답 DTO 래핑
+        // 2. 최종 응답 DTO 래핑
         AttendanceDto.DayAttendanceResponse response = new AttendanceDto.DayAttendanceResponse();
         response.setRecords(responseList);
-        response.setSnapshotLoaded(!attendanceRecords.isEmpty());
+        response.setSnapshotLoaded(rows.stream().anyMatch(AttendanceDto.BoardRow::hasSnapshot));
         
         return response;
     }
     
-    @Transactional(readOnly = true)
-    public List<LocalDate> getSavedDates(Long groupId) {
-        return attendanceRepository.findDistinctDatesByGroupId(groupId);
+    /**
+     * 출결이 저장된 날짜 목록 (인메모리 날짜 인덱스에서 조회, DB 조회 없음)
+     * @param year  (선택) 연도
+     * @param month (선택) 월
+     */
+    public List<LocalDate> getSavedDates(Long groupId, Integer year, Integer month) {
+        return attendanceDateIndex.getDates(List.of(groupId), year, month);
     }
     
+    /**
+     * 회원별 출결 이력 (최신순, keyset 페이지네이션)
+     * @param cursor (선택) 이전 응답의 nextCursor ("YYYY-MM-DD_id")
+     * @param size   페이지 크기 (최대 100)
+     */
+    @Transactional(readOnly = true)
+    public AttendanceDto.MemberHistoryResponse getMemberHistory(UserPrincipal user, Long memberId, String cursor, int size) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다. id=" + memberId));
+
+        // 1. [보안] 내 속 회원이거나, 내 교구 산하 속의 회원인지 확인 (Role 0 은 전체)
+        checkMemberReadPermission(user, member);
+
+        // 2. size + 1 건을 읽어 다음 페이지 존재 여부 판단
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<AttendanceDto.HistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = attendanceRepository.findHistory(memberId, limit);
+        } else {
+            String[] parts = cursor.split("_");
+            LocalDate cursorDate;
+            long cursorId;
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException();
+                }
+                cursorDate = LocalDate.parse(parts[0]);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) { // 👈 NumberFormatException 포함
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            rows = attendanceRepository.findHistoryBefore(memberId, cursorDate, cursorId, limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AttendanceDto.HistoryRow last = rows.get(rows.size() - 1);
+            nextCursor = last.date() + "_" + last.id();
+        }
+
+        // 3. 전체 이력 요약은 첫 페이지에만 (페이지마다 다시 세지 않음)
+        AttendanceDto.HistorySummary summary = (cursor == null || cursor.isBlank()) ? summarizeHistory(memberId) : null;
+
+        return new AttendanceDto.MemberHistoryResponse(memberId, rows, nextCursor, summary);
+    }
+
+    // 🔑 전체 이력 기준 출석률/연속 기록 (집계 쿼리 1번 + 연속 결석은 MEMBER_ABSENCE_STREAK 읽기 모델 PK 조회 1번)
+    private AttendanceDto.HistorySummary summarizeHistory(Long memberId) {
+        AttendanceRepository.HistoryCount count =
+                attendanceRepository.countHistory(memberId, AttendanceStatus.PRESENT.getLabel());
+
+        // 전부 출석이면 ('출석 아님' 이 없으면) 전체가 연속 출석
+        long presentStreak = count.getPresent() == count.getTotal()
+                ? count.getTotal()
+                : count.getPresentSinceLastNotPresent();
+
+        long absentStreak = absenceStreakRepository.findById(memberId)
+                .map(MemberAbsenceStreak::getAbsenceStreak)
+                .orElse(0);
+
+        return new AttendanceDto.HistorySummary(count.getTotal(), count.getPresent(), presentStreak, absentStreak);
+    }
+
+    private void checkMemberReadPermission(UserPrincipal user, Member member) {
+        if (user.getRole() == 0) {
+            return;
+        }
+        ChurchGroup group = member.getGroup();
+        Long myGroupId = user.getGroupId();
+
+        boolean myGroup = group != null && group.getId().equals(myGroupId);
+        boolean myParish = group != null && groupHierarchy.isDescendantOf(group.getId(), myGroupId);
+
+        if (!myGroup && !myParish) {
+            throw new AccessDeniedException("조회 권한이 없는 회원입니다.");
+        }
+    }
+
+    /**
+     * 당일 출결 삭제 (Set 기반)
+     * - 스냅샷 달란트 조회 1회 + 롤백 원장 배치 INSERT + 스냅샷 DELETE 1회 + 요약 갱신 1회
+     */
     @Transactional
-    public void deleteAttendanceByDate(User user, LocalDate date) {
+    public void deleteAttendanceByDate(UserPrincipal user, LocalDate date) {
         
         // 1. 오늘 날짜가 맞는지 다시 한번 확인 (안전장치)
         LocalDate today = LocalDate.now();
@@ -154,27 +316,70 @@ public class AttendanceService {
             throw new AccessDeniedException("출결 기록은 당일 기록만 삭제할 수 있습니다.");
         }
 
-        // 2. 오늘 날짜 + 내 그룹의 모든 스냅샷을 불러옴
-        List<Attendance> recordsToDelete = attendanceRepository.findAllByGroupIdAndDate(user.getGroup().getId(), date);
+        Long groupId = user.getGroupId();
+
+        // 2. 오늘 날짜 + 내 그룹의 스냅샷 달란트만 조회 (엔티티 로딩 없음)
+        List<AttendanceRepository.TalentSnapshot> snapshots =
+                attendanceRepository.findTalentSnapshotsByGroup(groupId, date);
 
-        if (recordsToDelete.isEmpty()) {
+        if (snapshots.isEmpty()) {
             // 삭제할 기록이 없으면 함수 종료
             return;
         }
 
-        // 3. [달란트 롤백] 삭제할 스냅샷을 순회하며 달란트를 롤백
-        for (Attendance record : recordsToDelete) {
-            int talentToRollback = record.getTalent(); // 👈 이 스냅샷에 저장된 점수 (예: 5)
-            
-            if (talentToRollback > 0) {
-                Member member = record.getMember();
-                // 🔑 멤버의 누적 달란트에서 롤백
-                member.setTalent(member.getTalent() - talentToRollback);
-                // (memberRepository.save(member)는 @Transactional이므로 필요 없음)
+        // 3. [달란트 롤백] 스냅샷 점수만큼 '음수 delta'를 원장에 배치로 추가
+        Map<Long, Integer> rollbacks = new LinkedHashMap<>();
+        for (AttendanceRepository.TalentSnapshot snapshot : snapshots) {
+            if (snapshot.getTalent() != 0) {
+                rollbacks.merge(snapshot.getMemberId(), -snapshot.getTalent(), Integer::sum);
             }
         }
+        talentLedgerService.append(rollbacks, TalentLedger.Reason.ROLLBACK, date, user.getId());
         
-        // 4. [스냅샷 삭제] 오늘 날짜의 스냅샷 기록을 모두 삭제
-        attendanceRepository.deleteAll(recordsToDelete);
+        // 4. [스냅샷 삭제] 오늘 날짜의 스냅샷 기록을 '한 번의 DELETE'로 삭제
+        attendanceRepository.deleteAllByGroupIdAndDate(groupId, date);
+
+        // 5. [요약/인덱스 갱신] 같은 트랜잭션에서 요약 행 재계산, 날짜 인덱스는 커밋 후 반영
+        List<Long> memberIds = snapshots.stream()
+                .map(AttendanceRepository.TalentSnapshot::getMemberId)
+                .collect(Collectors.toList());
+        dailySummaryRepository.refresh(groupId, date);
+        absenceStreakRepository.refresh(memberIds);
+        boardVersionRepository.reset(groupId, date); // 👈 동기화 중인 클라이언트는 전체 재조회
+        liveHub.publishReset(groupId, date);
+        attendanceDateIndex.markDeleted(groupId, date);
+        boardCache.evict(groupId, date);
+        analyticsStore.removeBoard(date, memberIds, rollbacks);
+    }
+
+    /**
+     * 출결 요약 테이블(ATTENDANCE_DAILY_SUMMARY)을 원본 ATTENDANCE 에서 재생성
+     * @return 생성된 요약 행 수
+     */
+    @Transactional
+    public int rebuildDailySummary() {
+        dailySummaryRepository.deleteAllRows();
+        return dailySummaryRepository.rebuildAll();
+    }
+
+    /**
+     * 회원별 연속 결석 테이블 재생성 (원본 ATTENDANCE 기준)
+     * @return 생성된 행 수
+     */
+    @Transactional
+    public int rebuildAbsenceStreaks() {
+        absenceStreakRepository.deleteAllRows();
+        return absenceStreakRepository.rebuildAll();
+    }
+
+    /**
+     * (교구) 연속 결석 minWeeks 이상인 회원 목록 (권한 검사는 호출 측)
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceDto.AbsenteeRow> getAbsentees(Long parishId, int minWeeks) {
+        if (minWeeks < 1) {
+            throw new IllegalArgumentException("minWeeks는 1 이상이어야 합니다.");
+        }
+        return absenceStreakRepository.findAbsentees(parishId, minWeeks);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.min.ca.attendance;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출결 상태
+ * - DB 에는 TINYINT 코드로, API 에는 기존 문자열("Present"/"Absent")로 주고받습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AttendanceStatus {
+
+    ABSENT(0, "Absent"),
+    PRESENT(1, "Present");
+
+    private final int code;
+    private final String label;
+
+    /**
+     * API 로 들어온 출결 문자열 -> 상태
+     * - "Present" 외의 값(null 포함)은 모두 결석 (기존 API 동작, V5 변환과 동일)
+     */
+    public static AttendanceStatus fromApiLabel(String label) {
+        return PRESENT.label.equals(label) ? PRESENT : ABSENT;
+    }
+
+    /**
+     * 정확한 문자열 -> 상태 (모르는 값이면 IllegalArgumentException - CSV 가져오기 검증, DB 변환용)
+     */
+    public static AttendanceStatus fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(status -> status.label.equals(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 출결 상태: " + label));
+    }
+
+    public static AttendanceStatus fromCode(int code) {
+        return Arrays.stream(values())
+                .filter(status -> status.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 출결 상태 코드: " + code));
+    }
+}
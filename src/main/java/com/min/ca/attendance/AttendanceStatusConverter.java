@@ -0,0 +1,21 @@
+package com.min.ca.attendance;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Attendance.status 변환기 ("Present"/"Absent" <-> TINYINT 1/0)
+ */
+@Converter
+public class AttendanceStatusConverter implements AttributeConverter<String, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(String label) {
+        return (label == null) ? null : AttendanceStatus.fromLabel(label).getCode();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer code) {
+        return (code == null) ? null : AttendanceStatus.fromCode(code).getLabel();
+    }
+}
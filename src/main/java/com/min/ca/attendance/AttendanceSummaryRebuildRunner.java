@@ -0,0 +1,36 @@
+package com.min.ca.attendance;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출결 읽기 모델 재생성 명령
+ * - 출결 요약: java -jar app.jar --rebuild-attendance-summary
+ * - 연속 결석: java -jar app.jar --rebuild-absence-streaks
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceSummaryRebuildRunner implements ApplicationRunner {
+
+    public static final String OPTION = "rebuild-attendance-summary";
+    public static final String STREAK_OPTION = "rebuild-absence-streaks";
+
+    private final AttendanceService attendanceService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            int rows = attendanceService.rebuildDailySummary();
+            log.info("출결 요약 테이블 재생성 완료: {} 행", rows);
+        }
+        if (args.containsOption(STREAK_OPTION)) {
+            int rows = attendanceService.rebuildAbsenceStreaks();
+            log.info("연속 결석 테이블 재생성 완료: {} 행", rows);
+        }
+    }
+}
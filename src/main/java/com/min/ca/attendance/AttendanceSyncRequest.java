@@ -0,0 +1,57 @@
+package com.min.ca.attendance;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리된 동기화 PATCH 의 멱등 키 (사용자별)
+ * - 같은 키로 다시 들어온 요청은 저장하지 않고 변경분만 돌려줍니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(AttendanceSyncRequest.Key.class)
+@Table(name = "ATTENDANCE_SYNC_REQUEST",
+        indexes = @Index(name = "idx_sync_request_created", columnList = "created_at"))
+public class AttendanceSyncRequest {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "board_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 🔑 복합키 (user_id, idempotency_key)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private String idempotencyKey;
+    }
+}
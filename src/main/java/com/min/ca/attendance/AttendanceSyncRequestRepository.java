@@ -0,0 +1,30 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AttendanceSyncRequestRepository
+        extends JpaRepository<AttendanceSyncRequest, AttendanceSyncRequest.Key> {
+
+    // 🔑 1. 멱등 키 등록 (이미 있으면 0 반환 -> 재전송으로 보고 무시)
+    //    (같은 키로 동시에 들어오면 뒤의 요청은 앞 트랜잭션의 커밋까지 기다린 뒤 0 을 받음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attendance_sync_request " +
+            "(user_id, idempotency_key, group_id, board_date, created_at) " +
+            "VALUES (:userId, :key, :groupId, :date, NOW(6))",
+            nativeQuery = true)
+    int register(@Param("userId") Long userId, @Param("key") String key,
+                 @Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+    // 🔑 2. 보관 기간이 지난 멱등 키 삭제
+    @Modifying
+    @Query(value = "DELETE FROM attendance_sync_request WHERE created_at < :before", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
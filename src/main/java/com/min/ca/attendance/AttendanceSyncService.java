@@ -0,0 +1,115 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.min.ca.user.UserPrincipal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출결판 증분 동기화 (통신이 불안정한 모바일용)
+ * - 조회: 클라이언트가 가진 버전(since) 이후 바뀐 회원 행만 내려줍니다.
+ * - 저장: 바뀐 회원만 PATCH 로 받고, 같은 멱등 키로 재전송된 요청은 다시 저장하지 않습니다.
+ */
+@Slf4j
+@Service
+public class AttendanceSyncService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final AttendanceService attendanceService;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBoardVersionRepository boardVersionRepository;
+    private final AttendanceSyncRequestRepository syncRequestRepository;
+    private final int retentionDays;
+
+    public AttendanceSyncService(AttendanceService attendanceService,
+                                 AttendanceRepository attendanceRepository,
+                                 AttendanceBoardVersionRepository boardVersionRepository,
+                                 AttendanceSyncRequestRepository syncRequestRepository,
+                                 @Value("${attendance.sync.retention-days:7}") int retentionDays) {
+        this.attendanceService = attendanceService;
+        this.attendanceRepository = attendanceRepository;
+        this.boardVersionRepository = boardVersionRepository;
+        this.syncRequestRepository = syncRequestRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 1. since 이후 변경분 조회
+     * - since 가 없거나, 그 사이 삭제/명단 변경(reset)이 있었거나, 서버보다 앞선 버전이면 전체 출결판
+     */
+    @Transactional(readOnly = true)
+    public AttendanceDto.SyncResponse getChanges(Long groupId, LocalDate date, Long since) {
+        return changesSince(groupId, date, since);
+    }
+
+    // 🔑 전체 출결판도 출결판 캐시를 거치지 않고 같은 트랜잭션에서 DB 로 읽음
+    //    (캐시는 커밋 '이후'에 갱신되므로, 버전과 캐시 내용이 어긋난 순간에 읽으면 변경분을 놓칠 수 있음)
+    private AttendanceDto.SyncResponse changesSince(Long groupId, LocalDate date, Long since) {
+        AttendanceBoardVersionRepository.State state = boardVersionRepository.findState(groupId, date);
+        long version = state == null ? 0L : state.getVersion();
+        long resetVersion = state == null ? 0L : state.getResetVersion();
+
+        if (since == null || since < resetVersion || since > version) {
+            AttendanceDto.DayAttendanceResponse board = attendanceService.loadAttendance(groupId, date);
+            return new AttendanceDto.SyncResponse(version, true, board.isSnapshotLoaded(), board.getRecords());
+        }
+
+        List<AttendanceDto.LoadResponse> changed = attendanceRepository.findChangedBoard(groupId, date, since).stream()
+                .map(AttendanceDto.LoadResponse::new)
+                .collect(Collectors.toList());
+        return new AttendanceDto.SyncResponse(version, false, !changed.isEmpty(), changed);
+    }
+
+    /**
+     * 현재 출결판 버전 (실시간 채널 구독 시 첫 이벤트로 전달)
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long groupId, LocalDate date) {
+        AttendanceBoardVersionRepository.State state = boardVersionRepository.findState(groupId, date);
+        return state == null ? 0L : state.getVersion();
+    }
+
+    /**
+     * 2. 바뀐 회원만 저장 (멱등)
+     * - 처음 보는 키: 저장 후 baseVersion 이후 변경분(내 변경 + 그 사이 다른 사람 변경) 반환
+     * - 이미 처리한 키: 저장하지 않고 변경분만 반환 (재전송은 no-op)
+     */
+    @Transactional
+    public AttendanceDto.SyncResponse patch(AttendanceDto.SyncPatchRequest request, UserPrincipal user) {
+        String key = request.getIdempotencyKey();
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("idempotencyKey는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        LocalDate date = LocalDate.parse(request.getDate());
+        Long groupId = user.getGroupId();
+
+        int registered = syncRequestRepository.register(user.getId(), key, groupId, date);
+        if (registered > 0 && request.getRecords() != null && !request.getRecords().isEmpty()) {
+            AttendanceDto.SaveRequest save = new AttendanceDto.SaveRequest();
+            save.setDate(request.getDate());
+            save.setRecords(request.getRecords());
+            attendanceService.saveAttendance(save, user);
+        }
+        return changesSince(groupId, date, request.getBaseVersion());
+    }
+
+    /**
+     * 3. 보관 기간이 지난 멱등 키 정리 (기본: 매일 새벽 4시)
+     */
+    @Scheduled(cron = "${attendance.sync.cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int deleted = syncRequestRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        log.info("만료된 동기화 멱등 키 {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,40 @@
+package com.min.ca.attendance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 연속 결석 (읽기 모델)
+ * - 출결 저장/삭제 시 해당 회원들의 행만 ATTENDANCE 원본에서 다시 계산됩니다.
+ * - 교구 '장기 결석자' 목록은 회원 이력을 훑지 않고 MEMBER 의 현재 속 -> 이 테이블(PK) 로 조회합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MEMBER_ABSENCE_STREAK")
+public class MemberAbsenceStreak {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "absence_streak", nullable = false)
+    private int absenceStreak; // 👈 마지막 출석 이후 결석 횟수 (= 연속 결석 주수)
+
+    @Column(name = "last_present_date")
+    private LocalDate lastPresentDate;
+
+    @Column(name = "last_attendance_date")
+    private LocalDate lastAttendanceDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
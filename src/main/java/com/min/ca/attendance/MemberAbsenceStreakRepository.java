@@ -0,0 +1,59 @@
+package com.min.ca.attendance;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberAbsenceStreakRepository extends JpaRepository<MemberAbsenceStreak, Long> {
+
+    // 🔑 회원별 (마지막 출석일, 마지막 기록일) -> 마지막 출석 이후 기록 수
+    //    (idx_attendance_member_status_date / uk_attendance_member_date 범위 조회만 사용)
+    String RECOMPUTE_SELECT =
+            "SELECT t.member_id, " +
+            "(SELECT COUNT(*) FROM attendance a WHERE a.member_id = t.member_id " +
+            "AND (t.last_present IS NULL OR a.attendance_date > t.last_present)), " +
+            "t.last_present, t.last_attendance, NOW(6) " +
+            "FROM (SELECT m.member_id, " +
+            "(SELECT MAX(p.attendance_date) FROM attendance p WHERE p.member_id = m.member_id AND p.status = 1) AS last_present, " +
+            "(SELECT MAX(r.attendance_date) FROM attendance r WHERE r.member_id = m.member_id) AS last_attendance " +
+            "FROM member m ";
+
+    String INSERT_COLUMNS = "INSERT INTO member_absence_streak " +
+            "(member_id, absence_streak, last_present_date, last_attendance_date, updated_at) ";
+
+    // 🔑 1. (출결 저장/삭제 시) 해당 회원들의 연속 결석 행을 다시 계산 (UPSERT)
+    @Modifying
+    @Query(value = INSERT_COLUMNS + RECOMPUTE_SELECT + "WHERE m.member_id IN (:memberIds)) t " +
+            "ON DUPLICATE KEY UPDATE absence_streak = VALUES(absence_streak), " +
+            "last_present_date = VALUES(last_present_date), last_attendance_date = VALUES(last_attendance_date), " +
+            "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void refresh(@Param("memberIds") Collection<Long> memberIds);
+
+    // 🔑 2. (교구 장기 결석자) 교구 산하 속의 활성 회원 중 기준 이상 연속 결석 (많은 순)
+    //    - 속은 MEMBER 의 현재 속 기준 (속 이동 직후에도 정확), idx_member_group_active -> streak PK 순으로 조회
+    @Query("SELECT new com.min.ca.attendance.AttendanceDto$AbsenteeRow(" +
+            "s.memberId, m.name, g.id, g.name, s.absenceStreak, s.lastPresentDate, s.lastAttendanceDate) " +
+            "FROM MemberAbsenceStreak s " +
+            "JOIN Member m ON m.id = s.memberId " +
+            "JOIN m.group g " +
+            "WHERE g.parent.id = :parishId AND s.absenceStreak >= :minWeeks AND m.isActive = true " +
+            "ORDER BY s.absenceStreak DESC, s.lastPresentDate ASC")
+    List<AttendanceDto.AbsenteeRow> findAbsentees(@Param("parishId") Long parishId, @Param("minWeeks") int minWeeks);
+
+    // 🔑 3. (재생성) 전체 삭제
+    @Modifying
+    @Query(value = "DELETE FROM member_absence_streak", nativeQuery = true)
+    void deleteAllRows();
+
+    // 🔑 4. (재생성) 모든 회원의 연속 결석 행을 원본에서 다시 생성
+    @Modifying
+    @Query(value = INSERT_COLUMNS + RECOMPUTE_SELECT + ") t", nativeQuery = true)
+    int rebuildAll();
+}
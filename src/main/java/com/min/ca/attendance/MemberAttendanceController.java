@@ -0,0 +1,45 @@
+package com.min.ca.attendance;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.min.ca.user.UserPrincipal;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/{memberId}/attendance") // 🔑 회원(속원)별 출결 이력
+public class MemberAttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    /**
+     * 회원 출결 이력 조회 (최신순)
+     * [GET] /api/members/{memberId}/attendance?cursor=YYYY-MM-DD_id&size=20
+     *
+     * - 첫 페이지(cursor 없음)에만 전체 이력 요약(summary)이 담깁니다.
+     *
+     * @param cursor (선택) 이전 응답의 nextCursor (형식이 잘못되면 400)
+     * @param size   페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping
+    public ResponseEntity<?> getMemberHistory(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        try {
+            return ResponseEntity.ok(attendanceService.getMemberHistory(user, memberId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 / 없는 회원: 400 Bad Request
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
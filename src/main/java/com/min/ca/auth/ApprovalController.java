@@ -1,6 +1,6 @@
 package com.min.ca.auth;
 
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,18 +16,18 @@ public class ApprovalController {
     private final ApprovalService approvalService;
 
     @GetMapping
-    public ResponseEntity<List<ApprovalDto.PendingUserResponse>> getPendingUsers(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<ApprovalDto.PendingUserResponse>> getPendingUsers(@AuthenticationPrincipal UserPrincipal user) {
         return ResponseEntity.ok(approvalService.getPendingUsers(user));
     }
 
     @PutMapping("/{userId}/approve")
-    public ResponseEntity<?> approveUser(@AuthenticationPrincipal User user, @PathVariable("userId") Long userId) {
+    public ResponseEntity<?> approveUser(@AuthenticationPrincipal UserPrincipal user, @PathVariable("userId") Long userId) {
         approvalService.approveUser(user, userId);
         return ResponseEntity.ok("승인되었습니다.");
     }
 
     @DeleteMapping("/{userId}/reject")
-    public ResponseEntity<?> rejectUser(@AuthenticationPrincipal User user, @PathVariable("userId") Long userId) {
+    public ResponseEntity<?> rejectUser(@AuthenticationPrincipal UserPrincipal user, @PathVariable("userId") Long userId) {
         approvalService.rejectUser(user, userId);
         return ResponseEntity.ok("거절(삭제)되었습니다.");
     }
@@ -1,5 +1,6 @@
 package com.min.ca.auth;
 
+import com.min.ca.group.ChurchGroupHierarchy;
 import com.min.ca.user.User;
 import lombok.Getter;
 
@@ -12,13 +13,14 @@ public class ApprovalDto {
         private String groupName;
         private int role;
 
-        public PendingUserResponse(User user) {
+        public PendingUserResponse(User user, ChurchGroupHierarchy groupHierarchy) {
             this.id = user.getId();
             this.username = user.getUsername();
             this.name = user.getName();
-            // 최상위 교구인지 하위 속인지에 따라 이름 표시
-            this.groupName = (user.getGroup().getParent() != null) 
-                ? user.getGroup().getParent().getName() + " - " + user.getGroup().getName() 
+            // 최상위 교구인지 하위 속인지에 따라 이름 표시 (상위 교구 이름은 계층 스냅샷에서 - 지연 로딩 없음)
+            ChurchGroupHierarchy.Node parent = groupHierarchy.find(groupHierarchy.parentId(user.getGroup().getId()));
+            this.groupName = (parent != null)
+                ? parent.name() + " - " + user.getGroup().getName()
                 : user.getGroup().getName();
             this.role = user.getRole();
         }
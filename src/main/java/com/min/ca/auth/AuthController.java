@@ -1,18 +1,23 @@
 package com.min.ca.auth;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.min.ca.auth.AuthDto.LoginRequest;
+import com.min.ca.jwt.JwtAuthenticationFilter;
+import com.min.ca.user.UserPrincipal;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor; 
 
 @RestController
@@ -24,13 +29,18 @@ public class AuthController {
 
     // 🔑 [POST] 로그인 API 엔드포인트
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
-            AuthDto.LoginResponse response = authService.authenticate(request);
+            AuthDto.LoginResponse response = authService.authenticate(request, httpRequest.getRemoteAddr());
             
             // 인증 성공: 200 OK
             return ResponseEntity.ok(response);
             
+        } catch (LoginThrottledException e) {
+            // 시도 제한/검증 대기열 포화: 429 Too Many Requests (바로 거부)
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                 .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                 .body(e.getMessage());
         } catch (IllegalArgumentException e) {
             // 인증 실패: 401 Unauthorized
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -38,8 +48,31 @@ public class AuthController {
         }
     }
     
+    // 🔑 [POST] 로그아웃 - 현재 토큰을 폐기 (만료 전이라도 이후 요청은 거부됨)
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = JwtAuthenticationFilter.AUTHORIZATION_HEADER, required = false) String authorization) {
+        String token = authorization != null && authorization.startsWith(JwtAuthenticationFilter.BEARER_PREFIX)
+                ? authorization.substring(JwtAuthenticationFilter.BEARER_PREFIX.length())
+                : null;
+        authService.logout(token);
+        return ResponseEntity.ok("로그아웃되었습니다.");
+    }
+
+    // 🔑 [DELETE] 사용자의 모든 토큰 폐기 (본인: 모든 기기 로그아웃 / 관리자: 탈취 의심 계정 차단)
+    @DeleteMapping("/users/{userId}/sessions")
+    public ResponseEntity<?> revokeSessions(@AuthenticationPrincipal UserPrincipal user,
+                                            @PathVariable("userId") Long userId) {
+        try {
+            authService.revokeSessions(user, userId);
+            return ResponseEntity.ok("모든 로그인이 해제되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<?> getUserInfo(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> getUserInfo(@AuthenticationPrincipal UserPrincipal userDetails) {
         // 토큰이 유효하지 않으면 JwtAuthenticationFilter에서 401 에러를 반환하므로, 
         // 이 메서드가 실행된다는 것은 토큰이 유효하다는 뜻입니다.
         if (userDetails == null) {
@@ -3,20 +3,23 @@ package com.min.ca.auth;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder; // 🔑 추가된 import
 import org.springframework.stereotype.Service;
 
 import com.min.ca.auth.AuthDto.LoginRequest;
 import com.min.ca.auth.AuthDto.LoginResponse;
 import com.min.ca.group.ChurchGroup;
+import com.min.ca.group.ChurchGroupHierarchy;
 import com.min.ca.group.ChurchGroupRepository;
 // 🔑 추가된 import
 import com.min.ca.jwt.JwtTokenProvider;
+import com.min.ca.jwt.TokenRevocationService;
 import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import com.min.ca.user.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -25,24 +28,37 @@ public class AuthService {
 
 	private final UserRepository userRepository;
 	private final ChurchGroupRepository churchGroupRepository;
+	private final ChurchGroupHierarchy groupHierarchy; // 🔑 교구/속 목록은 인메모리 스냅샷에서 조회
 
 	// 🔑 추가: PasswordEncoder 주입
 	private final PasswordEncoder passwordEncoder;
+	// 🔑 로그인 검증은 전용 실행기에서 (요청 스레드에서 BCrypt 를 돌리지 않음)
+	private final PasswordVerifier passwordVerifier;
+	private final LoginRateLimiter loginRateLimiter;
 	// 🔑 추가: JwtTokenProvider 주입
 	private final JwtTokenProvider jwtTokenProvider;
+	private final TokenRevocationService tokenRevocationService;
 
 	// 🔑 [인증] 로그인 처리 로직 (수정)
-	public LoginResponse authenticate(LoginRequest request) {
+	public LoginResponse authenticate(LoginRequest request, String clientIp) {
+
+		// 0. 아이디/IP 별 시도 제한 (초과 시 LoginThrottledException -> 429)
+		loginRateLimiter.acquire(request.getUsername(), clientIp);
 
 		// 1. 사용자 이름(username)으로 DB에서 회원 정보 조회 (User는 이미 UserDetails 구현)
 		User user = userRepository.findByUsername(request.getUsername())
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이디입니다."));
 
-		// 2. 비밀번호 검증 (평문 비교 -> 해시 비교로 변경)
-		// 🔑 passwordEncoder.matches(사용자가 입력한 평문 암호, DB에 저장된 해시 암호)
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+		// 2. 비밀번호 검증 (해시 비교)
+		// 🔑 검증 전용 실행기에서 BCrypt 실행 (대기열이 가득 차면 LoginThrottledException -> 429)
+		PasswordVerifier.Result verification = passwordVerifier.verify(request.getPassword(), user.getPassword());
+		if (!verification.matched()) {
 			throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
 		}
+		if (verification.upgradedHash() != null) {
+			// 👈 cost 를 올린 경우 새 해시로 교체 (rehash-on-login) - 엔티티 전체를 저장하지 않고 비밀번호 컬럼만
+			userRepository.updatePassword(user.getId(), user.getPassword(), verification.upgradedHash());
+		}
 
 		// 3. 활성 상태 확인 (isEnabled()를 통해 처리되나, 명시적으로 유지)
 		if (!user.isEnabled()) { // UserDetails의 isEnabled() 메서드 사용
@@ -50,21 +66,37 @@ public class AuthService {
 		}
 
 		// 4. 인증 성공 -> JWT 생성
-
-		// Spring Security의 인증 객체 생성
-		// 🔑 Spring Security 내부에서 사용될 임시 Authentication 객체를 생성합니다.
-		Authentication authentication = new UsernamePasswordAuthenticationToken(user, // principal (UserDetails 객체)
-				null, // credentials (비밀번호는 이미 검증되었으므로 null)
-				user.getAuthorities() // authorities (권한)
-		);
-
-		// JWT 토큰 생성
-		String jwt = jwtTokenProvider.createToken(authentication);
+		// 🔑 userId/권한/소속/토큰 버전을 claims 로 담아, 이후 요청은 DB 조회 없이 principal 을 만듭니다.
+		String jwt = jwtTokenProvider.createToken(user);
 
 		// 5. JWT를 포함하여 응답 DTO 반환 (생성자 수정됨)
 		return new LoginResponse(user, jwt);
 	}
 
+	// 🔑 [로그아웃] 현재 토큰 폐기 (이미 무효한 토큰이면 할 일 없음)
+	public void logout(String token) {
+		Claims claims = token == null ? null : jwtTokenProvider.parseClaims(token);
+		if (claims == null) {
+			return;
+		}
+		Long userId = jwtTokenProvider.getUserId(claims);
+		if (userId == null || claims.getId() == null) {
+			return; // 👈 jti 가 없는 이전 토큰 -> 사용자 단위 폐기로만 끊을 수 있음
+		}
+		tokenRevocationService.revokeToken(claims, userId);
+	}
+
+	// 🔑 [모든 기기 로그아웃] 지금까지 발급된 그 사용자의 토큰 모두 폐기 (본인 또는 관리자)
+	public void revokeSessions(UserPrincipal currentUser, Long userId) {
+		if (currentUser == null || (currentUser.getRole() != 0 && !currentUser.getId().equals(userId))) {
+			throw new AccessDeniedException("토큰 폐기 권한이 없습니다.");
+		}
+		if (!userRepository.existsById(userId)) {
+			throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+		}
+		tokenRevocationService.revokeUser(userId);
+	}
+
 	public AuthDto.LoginResponse getUserInfo(String username) {
 		// Spring Security의 SecurityContextHolder를 통해 전달받은 username으로 DB 조회
 		User user = userRepository.findByUsername(username)
@@ -76,17 +108,18 @@ public class AuthService {
 	}
 
 	public List<AuthDto.GroupResponse> getTopLevelGroups() {
-		return churchGroupRepository.findAllByParentIsNull().stream()
-				.map(group -> new AuthDto.GroupResponse(group.getId(), group.getName())).collect(Collectors.toList());
+		return groupHierarchy.roots().stream()
+				.map(group -> new AuthDto.GroupResponse(group.id(), group.name())).collect(Collectors.toList());
 	}
 
 	// 2. 특정 교구에 속한 하위 그룹(속) 목록 가져오기
 	public List<AuthDto.GroupResponse> getSubGroups(Long parentId) {
-		ChurchGroup parent = churchGroupRepository.findById(parentId)
-				.orElseThrow(() -> new IllegalArgumentException("상위 그룹을 찾을 수 없습니다."));
+		if (groupHierarchy.find(parentId) == null) {
+			throw new IllegalArgumentException("상위 그룹을 찾을 수 없습니다.");
+		}
 
-		return churchGroupRepository.findAllByParent(parent).stream()
-				.map(group -> new AuthDto.GroupResponse(group.getId(), group.getName())).collect(Collectors.toList());
+		return groupHierarchy.children(parentId).stream()
+				.map(group -> new AuthDto.GroupResponse(group.id(), group.name())).collect(Collectors.toList());
 	}
 
 	public void signup(AuthDto.SignupRequest request) {
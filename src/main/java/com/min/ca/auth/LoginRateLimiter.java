@@ -0,0 +1,113 @@
+package com.min.ca.auth;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * - 아이디별, IP별 버킷이 따로 있고 둘 다 토큰이 있어야 시도할 수 있습니다. (한쪽이 막히면 어느 쪽도 소모하지 않음)
+ * - 아이디 버킷은 한 계정에 대한 비밀번호 대입을, IP 버킷은 한 곳에서 여러 계정을 두드리는 것을 막습니다.
+ *   (예배 직전 교회 와이파이 한 IP 에서 교구 전체가 로그인하므로 IP 버킷은 넉넉하게 둡니다)
+ * - 버킷은 각각 최대 maxKeys 개 (LRU) - 오래 안 쓴 버킷은 가득 찬 상태와 같으므로 지워도 됩니다.
+ * - 지표: auth.login.rejected{reason=user_rate|ip_rate}
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limit userLimit;
+    private final Limit ipLimit;
+    private final Map<String, Bucket> userBuckets;
+    private final Map<String, Bucket> ipBuckets;
+
+    private final LongAdder userRejections = new LongAdder();
+    private final LongAdder ipRejections = new LongAdder();
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${auth.login.user-bucket.capacity:5}") int userCapacity,
+                            @Value("${auth.login.user-bucket.refill-per-minute:5}") int userRefillPerMinute,
+                            @Value("${auth.login.ip-bucket.capacity:100}") int ipCapacity,
+                            @Value("${auth.login.ip-bucket.refill-per-minute:60}") int ipRefillPerMinute,
+                            @Value("${auth.login.rate-limit.max-keys:10000}") int maxKeys) {
+        this.userLimit = new Limit(userCapacity, userRefillPerMinute / 60_000.0);
+        this.ipLimit = new Limit(ipCapacity, ipRefillPerMinute / 60_000.0);
+        this.userBuckets = lruMap(maxKeys);
+        this.ipBuckets = lruMap(maxKeys);
+
+        FunctionCounter.builder("auth.login.rejected", userRejections, LongAdder::sum)
+                .tag("reason", "user_rate").register(meterRegistry);
+        FunctionCounter.builder("auth.login.rejected", ipRejections, LongAdder::sum)
+                .tag("reason", "ip_rate").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 1회 차감 (둘 중 하나라도 비었으면 LoginThrottledException)
+     */
+    public void acquire(String username, String clientIp) {
+        String userKey = username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+        String ipKey = clientIp == null ? "" : clientIp;
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            Bucket user = userBuckets.computeIfAbsent(userKey, key -> new Bucket(userLimit.capacity(), now));
+            Bucket ip = ipBuckets.computeIfAbsent(ipKey, key -> new Bucket(ipLimit.capacity(), now));
+            user.refill(userLimit, now);
+            ip.refill(ipLimit, now);
+
+            if (user.tokens < 1) {
+                userRejections.increment();
+                throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                        user.secondsUntilToken(userLimit));
+            }
+            if (ip.tokens < 1) {
+                ipRejections.increment();
+                throw new LoginThrottledException("로그인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                        ip.secondsUntilToken(ipLimit));
+            }
+            user.tokens--;
+            ip.tokens--;
+        }
+    }
+
+    private static Map<String, Bucket> lruMap(int maxKeys) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    /**
+     * @param refillPerMilli 1ms 당 채워지는 토큰 수
+     */
+    private record Limit(int capacity, double refillPerMilli) {
+    }
+
+    // 🔑 버킷 (synchronized 안에서만 접근) - 마지막 갱신 이후 흐른 시간만큼 채움
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private void refill(Limit limit, long now) {
+            tokens = Math.min(limit.capacity(), tokens + (now - updatedAt) * limit.refillPerMilli());
+            updatedAt = now;
+        }
+
+        private long secondsUntilToken(Limit limit) {
+            return (long) Math.ceil((1 - tokens) / limit.refillPerMilli() / 1000);
+        }
+    }
+}
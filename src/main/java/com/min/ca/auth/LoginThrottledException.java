@@ -0,0 +1,19 @@
+package com.min.ca.auth;
+
+/**
+ * 로그인 요청 제한 (429 Too Many Requests)
+ * - 아이디/IP 별 시도 횟수 초과, 또는 비밀번호 검증 대기열이 가득 찬 경우
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,133 @@
+package com.min.ca.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 로그인 비밀번호 검증 전용 실행기 (BCrypt)
+ * - BCrypt 는 일부러 느린 CPU 작업이라, 요청 스레드에서 돌리면 로그인이 몰릴 때 모든 코어를 차지해
+ *   출결 API 까지 느려집니다. 그래서 고정 크기 스레드 풀 + 크기 제한 대기열에서만 실행합니다.
+ * - 대기열이 가득 차면 기다리지 않고 바로 거부(429)하고, 대기 시간이 timeoutMillis 를 넘어도 거부합니다.
+ * - 검증에 성공했고 저장된 해시의 cost 가 설정값보다 낮으면 같은 작업 안에서 새 해시를 만들어 돌려줍니다. (rehash-on-login)
+ * - 지표: auth.login.verify.queue, auth.login.verify.active, auth.login.verify.wait, auth.login.verify.duration,
+ *         auth.login.rejected{reason=queue_full|timeout}
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer waitTimer;
+    private final Timer verifyTimer;
+    private final LongAdder queueFullRejections = new LongAdder();
+    private final LongAdder timeoutRejections = new LongAdder();
+
+    /**
+     * 검증 결과
+     * @param upgradedHash 다시 만든 해시 (cost 가 그대로면 null)
+     */
+    public record Result(boolean matched, String upgradedHash) {
+    }
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.login.verify-threads:0}") int threads,
+                            @Value("${auth.login.verify-queue-capacity:32}") int queueCapacity,
+                            @Value("${auth.login.verify-timeout-millis:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 🔑 기본값: 코어의 절반 (나머지 코어는 출결 API 몫)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()); // 👈 대기열이 차면 RejectedExecutionException
+
+        Gauge.builder("auth.login.verify.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.login.verify.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.login.verify.wait").register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.login.verify.duration").register(meterRegistry);
+        FunctionCounter.builder("auth.login.rejected", queueFullRejections, LongAdder::sum)
+                .tag("reason", "queue_full").register(meterRegistry);
+        FunctionCounter.builder("auth.login.rejected", timeoutRejections, LongAdder::sum)
+                .tag("reason", "timeout").register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증 (검증 스레드에서 실행, 호출 스레드는 결과만 기다림)
+     * @throws LoginThrottledException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return verifyTimer.record(() -> match(rawPassword, encodedPassword));
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new LoginThrottledException("로그인 요청이 몰려 있습니다. 잠시 후 다시 시도해주세요.", 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // 👈 아직 대기열에 있으면 실행되지 않음
+            timeoutRejections.increment();
+            throw new LoginThrottledException("로그인 요청이 몰려 있습니다. 잠시 후 다시 시도해주세요.", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 검증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private Result match(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null || !passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return new Result(false, null);
+        }
+        // 🔑 cost 를 올렸다면 평문을 알고 있는 지금 새 해시를 만듦
+        String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+        return new Result(true, upgradedHash);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "login-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.min.ca.church;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.min.ca.user.UserPrincipal;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/church") // 👈 관리자(Role 0)용 교회 전체 API
+public class ChurchDashboardController {
+
+    private final ChurchDashboardService churchDashboardService;
+
+    /**
+     * 교회 전체 출결 대시보드 (교구별 요약 + 합계)
+     * [GET] /api/church/dashboard?date=YYYY-MM-DD
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<ChurchDashboardDto.Response> getDashboard(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("date") String date) {
+
+        return ResponseEntity.ok(churchDashboardService.getDashboard(user, LocalDate.parse(date)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.min.ca.church;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.parish.ParishDto;
+
+import lombok.Getter;
+
+public class ChurchDashboardDto {
+
+    /**
+     * 교회 전체 대시보드 (교구별 요약 + 합계)
+     * - incompleteParishIds: 제한 시간 안에 집계하지 못한 교구 (나머지 교구 결과는 그대로 반환)
+     */
+    @Getter
+    public static class Response {
+        private final LocalDate date;
+        private final int groupCount;
+        private final int submittedCount;
+        private final int presentCount;
+        private final int absentCount;
+        private final int talentTotal;
+        private final List<ParishResponse> parishes;
+        private final List<Long> incompleteParishIds;
+
+        public Response(LocalDate date, List<ParishResponse> parishes, List<Long> incompleteParishIds) {
+            this.date = date;
+            this.parishes = parishes;
+            this.incompleteParishIds = incompleteParishIds;
+            this.groupCount = parishes.stream().mapToInt(ParishResponse::getGroupCount).sum();
+            this.submittedCount = parishes.stream().mapToInt(ParishResponse::getSubmittedCount).sum();
+            this.presentCount = parishes.stream().mapToInt(ParishResponse::getPresentCount).sum();
+            this.absentCount = parishes.stream().mapToInt(ParishResponse::getAbsentCount).sum();
+            this.talentTotal = parishes.stream().mapToInt(ParishResponse::getTalentTotal).sum();
+        }
+    }
+
+    /**
+     * 교구 하나의 요약 (속별 상세 포함)
+     */
+    @Getter
+    public static class ParishResponse {
+        private final Long parishId;
+        private final String parishName;
+        private final int groupCount;
+        private int submittedCount;
+        private int presentCount;
+        private int absentCount;
+        private int talentTotal;
+        private final List<ParishDto.SummaryResponse> groups;
+
+        public ParishResponse(ChurchGroupHierarchy.Node parish, List<ParishDto.SummaryResponse> groups) {
+            this.parishId = parish.id();
+            this.parishName = parish.name();
+            this.groupCount = groups.size();
+            this.groups = groups;
+            for (ParishDto.SummaryResponse group : groups) {
+                if (group.isSubmitted()) {
+                    this.submittedCount++;
+                }
+                this.presentCount += group.getPresentCount();
+                this.absentCount += group.getAbsentCount();
+                this.talentTotal += group.getTotalTalentToday();
+            }
+        }
+    }
+}
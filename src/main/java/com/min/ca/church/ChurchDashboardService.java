@@ -0,0 +1,113 @@
+package com.min.ca.church;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.parish.ParishService;
+import com.min.ca.user.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교회 전체 출결 대시보드 (관리자 Role 0)
+ * - 교구마다 요약 집계를 가상 스레드에서 동시에 실행합니다. (응답 시간 = 가장 느린 교구 기준)
+ * - 동시에 DB 를 쓰는 작업 수는 Hikari 풀 크기의 절반으로 제한해 다른 요청의 커넥션을 남겨둡니다.
+ * - 요청마다 제한 시간(deadline)이 있으며, 시간 안에 끝나지 않은 교구는 incompleteParishIds 로 알려줍니다.
+ */
+@Slf4j
+@Service
+public class ChurchDashboardService implements DisposableBean {
+
+    private static final int DEFAULT_POOL_SIZE = 10; // 👈 Hikari 기본 maximumPoolSize
+
+    private final ChurchGroupHierarchy groupHierarchy;
+    private final ParishService parishService;
+    private final long timeoutMillis;
+    private final Semaphore dbPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChurchDashboardService(ChurchGroupHierarchy groupHierarchy,
+                                  ParishService parishService,
+                                  DataSource dataSource,
+                                  @Value("${church.dashboard.timeout-millis:3000}") long timeoutMillis) {
+        this.groupHierarchy = groupHierarchy;
+        this.parishService = parishService;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        this.dbPermits = new Semaphore(Math.max(1, poolSize / 2));
+    }
+
+    public ChurchDashboardDto.Response getDashboard(UserPrincipal user, LocalDate date) {
+        if (user.getRole() != 0) {
+            throw new AccessDeniedException("관리자만 접근 가능합니다.");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        // 1. 교구(최상위 그룹)마다 집계 작업 시작 (scatter)
+        List<ChurchGroupHierarchy.Node> parishes = groupHierarchy.roots();
+        Map<ChurchGroupHierarchy.Node, Future<ChurchDashboardDto.ParishResponse>> futures = new LinkedHashMap<>();
+        for (ChurchGroupHierarchy.Node parish : parishes) {
+            futures.put(parish, executor.submit(() -> summarize(parish, date, deadline)));
+        }
+
+        // 2. 남은 시간 안에서 결과 모으기 (gather) - 늦은 교구는 취소하고 미완료로 표시
+        List<ChurchDashboardDto.ParishResponse> results = new ArrayList<>();
+        List<Long> incomplete = new ArrayList<>();
+        for (Map.Entry<ChurchGroupHierarchy.Node, Future<ChurchDashboardDto.ParishResponse>> entry : futures.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(entry.getValue().get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                incomplete.add(entry.getKey().id());
+            } catch (ExecutionException e) {
+                log.warn("교구 {} 집계 실패: {}", entry.getKey().id(), e.getCause().getMessage());
+                incomplete.add(entry.getKey().id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(future -> future.cancel(true));
+                throw new IllegalStateException("대시보드 집계가 중단되었습니다.", e);
+            }
+        }
+        return new ChurchDashboardDto.Response(date, results, incomplete);
+    }
+
+    // 🔑 교구 하나 집계 (DB 커넥션 허가를 받은 동안만 실행, 허가를 기다리다 마감이 지나면 포기)
+    private ChurchDashboardDto.ParishResponse summarize(ChurchGroupHierarchy.Node parish, LocalDate date, long deadline)
+            throws InterruptedException, TimeoutException {
+        long remaining = deadline - System.nanoTime();
+        if (!dbPermits.tryAcquire(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("DB 허가 대기 시간 초과");
+        }
+        try {
+            return new ChurchDashboardDto.ParishResponse(parish, parishService.getParishSummary(parish.id(), date));
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,28 @@
+package com.min.ca.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인메모리 캐시/인덱스 갱신용 헬퍼
+ * - 트랜잭션 안이면 '커밋 이후'에 실행하여 롤백된 변경이 메모리에 남지 않게 합니다.
+ * - 트랜잭션 밖이면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.min.ca.config;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,10 +29,11 @@ public class SecurityConfig {
 
 	private final JwtTokenProvider jwtTokenProvider;
     // 1. PasswordEncoder Bean 등록 (비밀번호 해시 및 검증용)
+    // 🔑 cost(strength)를 올리면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장됩니다. (PasswordVerifier)
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
         // BCryptPasswordEncoder는 강력하고 널리 사용되는 해시 알고리즘입니다.
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(strength);
     }
     
     
@@ -59,6 +61,8 @@ public class SecurityConfig {
             .requestMatchers("/api/parish/**").authenticated()
             .requestMatchers("/api/places/**").authenticated()
             .requestMatchers("/api/reservation/**").authenticated()
+            .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/**").hasRole("0") // 👈 지표는 관리자만
             .anyRequest().authenticated()
         )
         
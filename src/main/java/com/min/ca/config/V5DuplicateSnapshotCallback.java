@@ -0,0 +1,63 @@
+package com.min.ca.config;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+/**
+ * V5(중복 스냅샷 삭제) 직전에 지워질 스냅샷의 달란트를 따로 보관하는 Flyway 콜백
+ * - V5 는 같은 회원/날짜의 예전 스냅샷을 지우지만, 그 달란트는 이미 잔액에 반영되어 있습니다.
+ * - 지운 뒤에는 어떤 행이었는지 알 수 없으므로 여기서 attendance_v5_removed 에 복사해 두고,
+ *   V10 이 이 표로 ROLLBACK 원장 행을 추가한 뒤 표를 지웁니다.
+ * - 이미 V5 를 적용한 DB 에서는 실행되지 않습니다. (V10 은 빈 표로 아무것도 하지 않음)
+ */
+@Component
+public class V5DuplicateSnapshotCallback implements Callback {
+
+    private static final MigrationVersion V5 = MigrationVersion.fromVersion("5");
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE
+                && context.getMigrationInfo() != null
+                && V5.equals(context.getMigrationInfo().getVersion());
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute("CREATE TABLE attendance_v5_removed ("
+                    + "attendance_id BIGINT NOT NULL, member_id BIGINT NOT NULL, "
+                    + "attendance_date DATE NOT NULL, talent INT NOT NULL, "
+                    + "PRIMARY KEY (attendance_id)) ENGINE = InnoDB");
+
+            // 🔑 V5 의 DELETE 와 같은 조건 (더 최근 스냅샷이 있는 행), 달란트가 0 이면 되돌릴 것이 없음
+            //    중복 (회원, 날짜) 를 GROUP BY 한 번으로 먼저 찾음 👈 V5 이전에는 (member_id, attendance_date) 인덱스가 없어
+            //    행마다 EXISTS 로 찾으면 회원 이력 전체를 반복해서 훑음 (310만 행에서 수십 분 -> 십여 초)
+            statement.execute("INSERT INTO attendance_v5_removed (attendance_id, member_id, attendance_date, talent) "
+                    + "SELECT a1.attendance_id, a1.member_id, a1.attendance_date, a1.talent FROM attendance a1 "
+                    + "JOIN (SELECT member_id, attendance_date, MAX(attendance_id) AS last_id FROM attendance "
+                    + "      GROUP BY member_id, attendance_date HAVING COUNT(*) > 1) d "
+                    + "ON d.member_id = a1.member_id AND d.attendance_date = a1.attendance_date "
+                    + "AND a1.attendance_id < d.last_id "
+                    + "WHERE a1.talent <> 0");
+        } catch (SQLException e) {
+            throw new IllegalStateException("V5 중복 스냅샷 보관 실패", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "V5DuplicateSnapshotCallback";
+    }
+}
@@ -8,10 +8,14 @@ import lombok.*;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "CHURCH_GROUP") // DB 테이블명과 일치
+@EntityListeners(ChurchGroupChangeListener.class) // 👈 변경 시 계층 스냅샷 재적재
 public class ChurchGroup {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "church_group_id")
+    @TableGenerator(name = "church_group_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "church_group", allocationSize = 50)
     @Column(name = "group_id")
     private Long id; // PK
 
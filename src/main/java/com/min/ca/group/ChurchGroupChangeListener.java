@@ -0,0 +1,29 @@
+package com.min.ca.group;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * ChurchGroup 변경 시 계층 스냅샷 재적재 (Spring 빈으로 등록된 JPA 엔티티 리스너)
+ */
+@Component
+public class ChurchGroupChangeListener {
+
+    private final ChurchGroupHierarchy hierarchy;
+
+    // 👈 리스너는 EntityManagerFactory 생성 중에 만들어지므로 @Lazy 로 순환 의존을 피함
+    public ChurchGroupChangeListener(@Lazy ChurchGroupHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(ChurchGroup group) {
+        hierarchy.changed();
+    }
+}
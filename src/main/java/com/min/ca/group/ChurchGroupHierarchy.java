@@ -0,0 +1,174 @@
+package com.min.ca.group;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 교구/속 계층 구조의 불변(immutable) 인메모리 스냅샷
+ * - 그룹 수가 적고 거의 바뀌지 않으므로, 전체 트리를 한 번에 읽어 불변 객체로 만들고
+ *   변경이 생기면 새 스냅샷을 만들어 참조만 통째로 교체합니다. (copy-on-write, 읽기에는 락 없음)
+ * - 부모/자식/깊이/조상 경로를 미리 계산해 두므로, 상하위 관계 확인은 DB/지연 로딩 없이 O(1) 입니다.
+ * - 갱신 시점: 기동 시, ChurchGroup 엔티티 변경 커밋 이후, 그리고 DB 에서 직접 고친 경우를 위한 주기적 재적재
+ */
+@Component
+@RequiredArgsConstructor
+public class ChurchGroupHierarchy {
+
+    private final ChurchGroupRepository groupRepository;
+
+    private volatile Snapshot snapshot; // 🔑 읽는 쪽은 이 참조 하나만 봄
+
+    /**
+     * 그룹 노드 (불변)
+     * @param path 최상위 교구부터 자기 자신까지의 ID (path.get(depth) == id)
+     */
+    public record Node(Long id, String name, Long parentId, int depth, List<Long> childIds, List<Long> path) {
+
+        public boolean isParish() {
+            return parentId == null;
+        }
+    }
+
+    /**
+     * 1. 전체 재적재 후 스냅샷 교체 (기동 시 + 주기적)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${church-group.hierarchy.refresh-cron:0 */10 * * * *}")
+    public void reload() {
+        snapshot = Snapshot.build(groupRepository.findAllNodes());
+    }
+
+    /**
+     * 2. 그룹 변경 반영 (커밋 이후 재적재)
+     */
+    public void changed() {
+        AfterCommit.run(this::reload);
+    }
+
+    /**
+     * 3. 노드 조회 (없으면 null)
+     */
+    public Node find(Long groupId) {
+        return groupId == null ? null : snapshot().nodes.get(groupId);
+    }
+
+    public Long parentId(Long groupId) {
+        Node node = find(groupId);
+        return node == null ? null : node.parentId();
+    }
+
+    public List<Long> childIds(Long groupId) {
+        Node node = find(groupId);
+        return node == null ? List.of() : node.childIds();
+    }
+
+    // 🔑 자식 ID 와 노드를 같은 스냅샷에서 읽음 (그 사이 스냅샷이 교체되어도 없는 노드(null)가 섞이지 않음)
+    public List<Node> children(Long groupId) {
+        Snapshot current = snapshot();
+        Node node = groupId == null ? null : current.nodes.get(groupId);
+        return node == null ? List.of() : node.childIds().stream().map(current.nodes::get).toList();
+    }
+
+    /**
+     * 4. 최상위 교구 목록 (ID 순)
+     */
+    public List<Node> roots() {
+        return snapshot().roots;
+    }
+
+    /**
+     * 5. groupId 가 ancestorId 의 하위 그룹인지 (자기 자신은 제외)
+     * - 조상 경로의 같은 깊이 위치만 비교하므로 트리 깊이와 무관하게 O(1)
+     */
+    public boolean isDescendantOf(Long groupId, Long ancestorId) {
+        Snapshot current = snapshot();
+        Node node = groupId == null ? null : current.nodes.get(groupId);
+        Node ancestor = ancestorId == null ? null : current.nodes.get(ancestorId);
+        if (node == null || ancestor == null || node.depth() <= ancestor.depth()) {
+            return false;
+        }
+        return node.path().get(ancestor.depth()).equals(ancestorId);
+    }
+
+    // 🔑 기동 이벤트 전에 들어온 요청도 처리할 수 있도록 최초 1회는 즉시 적재
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Node> nodes;
+        private final List<Node> roots;
+
+        private Snapshot(Map<Long, Node> nodes, List<Node> roots) {
+            this.nodes = nodes;
+            this.roots = roots;
+        }
+
+        private static Snapshot build(List<ChurchGroupRepository.NodeRow> rows) {
+            // 1. 부모 -> 자식 목록 (ID 순)
+            Map<Long, ChurchGroupRepository.NodeRow> byId = new HashMap<>();
+            Map<Long, List<Long>> childIds = new HashMap<>();
+            List<Long> rootIds = new ArrayList<>();
+            for (ChurchGroupRepository.NodeRow row : rows) {
+                byId.put(row.getId(), row);
+            }
+            for (ChurchGroupRepository.NodeRow row : rows) {
+                if (row.getParentId() == null || !byId.containsKey(row.getParentId())) {
+                    rootIds.add(row.getId());
+                } else {
+                    childIds.computeIfAbsent(row.getParentId(), id -> new ArrayList<>()).add(row.getId());
+                }
+            }
+            rootIds.sort(Comparator.naturalOrder());
+            childIds.values().forEach(ids -> ids.sort(Comparator.naturalOrder()));
+
+            // 2. 최상위부터 내려가며 깊이/경로 계산 (순환 참조 방어: 한 번 방문한 노드는 건너뜀)
+            Map<Long, Node> nodes = new HashMap<>();
+            List<Long> pending = new ArrayList<>(rootIds);
+            Map<Long, List<Long>> paths = new HashMap<>();
+            rootIds.forEach(id -> paths.put(id, List.of(id)));
+            for (int i = 0; i < pending.size(); i++) {
+                Long id = pending.get(i);
+                if (nodes.containsKey(id)) {
+                    continue;
+                }
+                ChurchGroupRepository.NodeRow row = byId.get(id);
+                List<Long> path = paths.get(id);
+                List<Long> children = List.copyOf(childIds.getOrDefault(id, List.of()));
+                nodes.put(id, new Node(id, row.getName(), path.size() > 1 ? row.getParentId() : null,
+                        path.size() - 1, children, path));
+
+                for (Long childId : children) {
+                    List<Long> childPath = new ArrayList<>(path);
+                    childPath.add(childId);
+                    paths.put(childId, List.copyOf(childPath));
+                    pending.add(childId);
+                }
+            }
+
+            List<Node> roots = rootIds.stream().map(nodes::get).toList();
+            return new Snapshot(Map.copyOf(nodes), roots);
+        }
+    }
+}
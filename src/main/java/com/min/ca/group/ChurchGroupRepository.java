@@ -1,6 +1,7 @@
 package com.min.ca.group;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +17,16 @@ public interface ChurchGroupRepository extends JpaRepository<ChurchGroup, Long>
     List<ChurchGroup> findAllByParent(ChurchGroup parent);
     
     List<ChurchGroup> findAllByParentIsNull();
+
+    /**
+     * 🔑 계층 스냅샷 적재용 (엔티티/프록시 없이 ID, 이름, 부모 ID 만)
+     */
+    interface NodeRow {
+        Long getId();
+        String getName();
+        Long getParentId();
+    }
+
+    @Query("SELECT g.id AS id, g.name AS name, p.id AS parentId FROM ChurchGroup g LEFT JOIN g.parent p")
+    List<NodeRow> findAllNodes();
 }
\ No newline at end of file
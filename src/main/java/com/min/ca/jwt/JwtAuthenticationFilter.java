@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +22,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
+    // 🔑 실시간 채널 구독(SSE)만 쿼리 파라미터 티켓을 받음 (EventSource 는 헤더를 보낼 수 없음)
+    public static final String LIVE_PATH = "/api/attendance/live";
+    public static final String LIVE_TICKET_PARAM = "ticket";
+
     /**
      * HTTP 요청이 들어올 때마다 한 번씩 실행되어 토큰을 검증하고 인증 처리
      */
@@ -28,18 +33,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // 1. HTTP 요청 헤더에서 JWT 추출
+        // 1. HTTP 요청 헤더에서 JWT 추출 (헤더가 없는 실시간 채널 구독이면 ?ticket= 사용)
         String jwt = resolveToken(request);
+        boolean liveTicket = false;
+        if (!StringUtils.hasText(jwt) && isLiveSubscription(request)) {
+            jwt = request.getParameter(LIVE_TICKET_PARAM);
+            liveTicket = true;
+        }
 
-        // 2. 추출된 토큰의 유효성 검증
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+        // 2. 추출된 토큰의 유효성 검증 + claims 추출 (한 번만 파싱, 반복 요청은 캐시)
+        Claims claims = StringUtils.hasText(jwt) ? jwtTokenProvider.parseClaims(jwt) : null;
+        if (claims != null) {
             
-            // 3. 토큰이 유효하면 인증 정보(Authentication) 객체 획득
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+            // 3. 토큰이 유효하면 인증 정보(Authentication) 객체 획득 (토큰 버전이 바뀌었으면 null)
+            //    (구독 티켓은 구독 요청에서만, 로그인 토큰은 헤더에서만 인정)
+            Authentication authentication = liveTicket
+                    ? jwtTokenProvider.getLiveAuthentication(claims)
+                    : jwtTokenProvider.getAuthentication(claims);
 
             // 4. Spring Security의 SecurityContext에 인증 정보 저장 (로그인 상태 유지)
             // 🔑 이 코드가 실행되면, 해당 요청에 대해 사용자가 인증된 상태가 됩니다.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         // 다음 필터로 요청을 전달
@@ -59,4 +75,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    private boolean isLiveSubscription(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return "GET".equals(request.getMethod()) && LIVE_PATH.equals(path);
+    }
 }
\ No newline at end of file
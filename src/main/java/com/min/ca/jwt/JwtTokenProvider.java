@@ -7,16 +7,30 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
+
 import java.security.Key;
 import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    // 🔑 principal claims (토큰만으로 UserPrincipal 을 만들 수 있도록)
+    private static final String USER_ID = "uid";
+    private static final String NAME = "name";
+    private static final String ROLE = "role";
+    private static final String GROUP_ID = "gid";
+    private static final String PARISH_ID = "pid";
+    private static final String TOKEN_VERSION = "ver";
+    private static final String SCOPE = "scp"; // 👈 일반 토큰에는 없음
+    public static final String LIVE_SCOPE = "live"; // 🔑 실시간 채널 구독 전용 티켓
+
     // application.properties 또는 application.yml에서 설정할 JWT Secret Key
     // 🔑 보안을 위해 256비트 이상(32글자)의 무작위 문자열을 권장합니다.
     @Value("${jwt.secret}")
@@ -25,14 +39,26 @@ public class JwtTokenProvider {
     // 토큰 만료 시간 (예: 30분 = 30 * 60 * 1000L)
     @Value("${jwt.token-validity-in-seconds}")
     private long tokenValidityInMilliseconds; 
+
+    // 실시간 채널 구독 티켓 만료 시간 (URL 에 실리므로 짧게)
+    @Value("${jwt.live-ticket-validity-millis:60000}")
+    private long liveTicketValidityInMilliseconds;
     
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache; // 🔑 토큰 버전/활성 여부 캐시 (매 요청 DB 조회 없음)
+    private final VerifiedTokenCache verifiedTokenCache; // 🔑 검증된 토큰 claims 캐시
+    private final TokenRevocationList revocationList; // 🔑 폐기된 토큰/사용자 (블룸 필터 + 정확한 목록)
+    private final ChurchGroupHierarchy groupHierarchy;
     
     private Key key;
+    private JwtParser parser; // 👈 불변/스레드 안전 - 기동 시 한 번만 생성
 
     // 생성자 주입
-    public JwtTokenProvider(UserDetailsService userDetailsService) {
-        this.userDetailsService = userDetailsService;
+    public JwtTokenProvider(PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache,
+                            TokenRevocationList revocationList, ChurchGroupHierarchy groupHierarchy) {
+        this.principalCache = principalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationList = revocationList;
+        this.groupHierarchy = groupHierarchy;
     }
 
     // 객체 초기화 시 SecretKey를 Base64 Decode하여 Key 객체로 저장
@@ -40,25 +66,29 @@ public class JwtTokenProvider {
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
      * 1. JWT 토큰 생성
-     * @param authentication 인증된 사용자 정보
+     * @param user 인증된 사용자 (비밀번호/활성 상태 검증 완료)
      * @return 생성된 JWT 문자열
      */
-    public String createToken(Authentication authentication) {
-        
-        // 사용자 이름(username)을 토큰의 Subject(제목)으로 설정
-        String username = authentication.getName();
+    public String createToken(User user) {
         
         // 토큰 만료 시간 설정
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
         return Jwts.builder()
-                .setSubject(username)       // 토큰 제목 (사용자 이름)
-                .claim("roles", authentication.getAuthorities()) // 권한 정보 (선택적)
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti) - 토큰 단위 폐기용
+                .setSubject(user.getUsername()) // 토큰 제목 (사용자 이름)
+                .claim(USER_ID, user.getId())
+                .claim(NAME, user.getName())
+                .claim(ROLE, user.getRole())
+                .claim(GROUP_ID, user.getGroup().getId())
+                .claim(PARISH_ID, groupHierarchy.parentId(user.getGroup().getId())) // 👈 최상위 그룹이면 null (claim 생략)
+                .claim(TOKEN_VERSION, user.getTokenVersion())
                 .setIssuedAt(now)           // 토큰 발행 시간
                 .setExpiration(validity)    // 토큰 만료 시간
                 .signWith(key, SignatureAlgorithm.HS512) // 시크릿 키와 해시 알고리즘으로 서명
@@ -66,36 +96,100 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 2. 토큰을 복호화하여 인증 정보 획득
-     * @param token JWT 문자열
-     * @return Spring Security의 Authentication 객체
+     * 1-1. 실시간 채널 구독 티켓 생성 (GET /api/attendance/live?ticket= 에서만 인정)
+     * - 브라우저 EventSource 는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터로 받는데,
+     *   URL 은 접속 로그/기록에 남으므로 로그인 토큰 대신 수명이 짧고 다른 API 에는 쓸 수 없는 티켓을 발급합니다.
+     * @param principal 로그인 토큰으로 인증된 사용자 (같은 principal claims + 토큰 버전을 그대로 담음)
      */
-    public Authentication getAuthentication(String token) {
-        // 토큰에서 사용자 이름을 추출
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        String username = claims.getSubject();
+    public String createLiveTicket(UserPrincipal principal) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + liveTicketValidityInMilliseconds);
+
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(principal.getUsername())
+                .claim(USER_ID, principal.getId())
+                .claim(NAME, principal.getName())
+                .claim(ROLE, principal.getRole())
+                .claim(GROUP_ID, principal.getGroupId())
+                .claim(PARISH_ID, principal.getParishId())
+                .claim(TOKEN_VERSION, principal.getTokenVersion())
+                .claim(SCOPE, LIVE_SCOPE)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    public long getLiveTicketValiditySeconds() {
+        return liveTicketValidityInMilliseconds / 1000;
+    }
+
+    /**
+     * 2. 검증된 claims 에서 인증 정보 획득 (DB 조회 없이 claims 로 principal 생성)
+     * @param claims parseClaims 로 검증된 토큰 내용
+     * @return Spring Security의 Authentication 객체 (이전 형식 토큰, 폐기된 토큰, 토큰 버전이 바뀌었으면 null)
+     */
+    public Authentication getAuthentication(Claims claims) {
+        return authenticate(claims, null); // 👈 구독 티켓은 일반 API 에 쓸 수 없음
+    }
+
+    /**
+     * 2-1. 실시간 채널 구독 티켓으로 인증 (티켓이 아니면 null)
+     */
+    public Authentication getLiveAuthentication(Claims claims) {
+        return authenticate(claims, LIVE_SCOPE);
+    }
+
+    private Authentication authenticate(Claims claims, String scope) {
+        if (!Objects.equals(claims.get(SCOPE, String.class), scope)) {
+            return null;
+        }
+        Long userId = claims.get(USER_ID, Long.class);
+        Integer role = claims.get(ROLE, Integer.class);
+        Long groupId = claims.get(GROUP_ID, Long.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION, Integer.class);
+        if (userId == null || role == null || groupId == null || tokenVersion == null) {
+            return null; // 👈 principal claims 가 없는 이전 토큰 -> 다시 로그인
+        }
+        // 🔑 폐기된 토큰/사용자인지 확인 (대부분 블룸 필터에서 바로 통과 - DB 조회 없음)
+        if (revocationList.isRevoked(claims.getId(), userId, claims.getIssuedAt())) {
+            return null;
+        }
+        UserPrincipal principal = new UserPrincipal(userId, claims.getSubject(), claims.get(NAME, String.class),
+                role, groupId, claims.get(PARISH_ID, Long.class), tokenVersion);
 
-        // 추출된 사용자 이름으로 UserDetailsService를 통해 DB에서 UserDetails 객체 로드
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 🔑 권한/소속/활성 상태가 바뀌어 토큰 버전이 올라갔으면 거부 (버전은 캐시에서 확인)
+        if (!principalCache.isCurrent(principal)) {
+            return null;
+        }
 
         // Spring Security의 인증 객체 생성 및 반환
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    /**
+     * 토큰 claims 의 사용자 ID (이전 형식 토큰이면 null)
+     */
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID, Long.class);
     }
 
     /**
-     * 3. 토큰 유효성 검증
+     * 3. 토큰 검증 + claims 추출 (요청당 한 번만 파싱)
+     * - 같은 토큰을 이미 검증했다면 캐시된 claims 를 바로 반환 (디코딩/HMAC 생략)
      * @param token JWT 문자열
-     * @return 유효성 여부 (true/false)
+     * @return 검증된 claims (유효하지 않으면 null)
      */
-    public boolean validateToken(String token) {
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             // 잘못된 JWT 서명
             // log.info("잘못된 JWT 서명입니다.", e);
@@ -109,6 +203,15 @@ public class JwtTokenProvider {
             // JWT 토큰이 잘못되었습니다.
             // log.info("JWT 토큰이 잘못되었습니다.", e);
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * 4. 토큰 유효성 검증
+     * @param token JWT 문자열
+     * @return 유효성 여부 (true/false)
+     */
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.min.ca.jwt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인증 사용자 상태 캐시 - 매 요청마다 USER 를 조회하지 않도록
+ * - principal 자체는 토큰 claims 로 만들고(UserPrincipal), 여기서는 '그 토큰이 아직 유효한지'만 확인합니다.
+ *   (Key: user_id, Value: 현재 토큰 버전 + 활성 여부)
+ * - 최대 maxSize 개 (LRU), 항목마다 ttl 이 지나면 다시 DB 에서 적재합니다.
+ * - 승인/거절, 권한 변경, 소속 이동 등 User 변경은 커밋 이후 evict 로 바로 무효화합니다. (UserChangeListener)
+ * - 조회(miss) 도중 무효화가 있었다면 읽어온 값을 넣지 않습니다. (generation 확인)
+ * - 지표: auth.principal.cache.requests{result=hit|miss}, auth.principal.cache.evictions, auth.principal.cache.size
+ */
+@Component
+public class PrincipalCache {
+
+    private static final State MISSING = new State(-1, false); // 👈 삭제된 사용자
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    private long generation; // 👈 무효화 횟수 (synchronized 안에서만 접근)
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-size:1000}") int maxSize,
+                          @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+
+        FunctionCounter.builder("auth.principal.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("auth.principal.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("auth.principal.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", this, PrincipalCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 토큰의 principal 이 아직 유효한지 (활성 사용자 + 토큰 버전 일치)
+     */
+    public boolean isCurrent(UserPrincipal principal) {
+        State state = get(principal.getId());
+        return state.active() && state.tokenVersion() == principal.getTokenVersion();
+    }
+
+    private State get(Long userId) {
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                return entry.state();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        // 🔑 DB 조회는 락 밖에서 (같은 사용자의 동시 miss 는 각자 조회 - 결과는 같음)
+        State state = userRepository.findTokenState(userId)
+                .map(row -> new State(row.getTokenVersion(), row.isActive()))
+                .orElse(MISSING);
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(userId, new Entry(state, now + ttlMillis));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 2. 사용자 무효화 (커밋 이후 - 롤백되면 그대로 둠)
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                if (entries.remove(userId) != null) {
+                    evictions.increment();
+                }
+            }
+        });
+    }
+
+    /**
+     * 3. 전체 무효화 (일괄 변경 시)
+     */
+    public void evictAll() {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                evictions.add(entries.size());
+                entries.clear();
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record State(int tokenVersion, boolean active) {
+    }
+
+    private record Entry(State state, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.min.ca.jwt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 🔑 1. 토큰 폐기 등록 (이미 폐기된 토큰이면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token (jti, user_id, expires_at) " +
+            "VALUES (:jti, :userId, :expiresAt)",
+            nativeQuery = true)
+    int revoke(@Param("jti") String jti, @Param("userId") Long userId,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 🔑 2. 아직 만료되지 않은 폐기 토큰 (인메모리 목록 적재용)
+    @Query("SELECT t FROM RevokedToken t WHERE t.expiresAt > :now")
+    List<RevokedToken> findAllActive(@Param("now") LocalDateTime now);
+
+    // 🔑 3. 만료된 토큰 삭제 (이미 서명 검증 단계에서 거부됨)
+    @Modifying
+    @Query(value = "DELETE FROM revoked_token WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,245 @@
+package com.min.ca.jwt;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.config.AfterCommit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 토큰 폐기 목록의 인메모리 사본 (매 요청 확인)
+ * - 블룸 필터 + 정확한 목록(jti -> 만료 시각, user_id -> revoked_before) 두 단계로 확인합니다.
+ *   거의 모든 요청은 블룸 필터에서 '없음'으로 끝나고(해시 몇 번 + 비트 확인), 블룸 필터가 '있을 수 있음'일 때만
+ *   정확한 목록을 봅니다. (오탐은 정확한 목록에서 걸러지므로 폐기되지 않은 토큰이 거부되지는 않음)
+ * - 원본은 DB(revoked_token, user_token_revocation) 이고, 폐기 등록은 커밋 이후 여기에 바로 더합니다.
+ * - 블룸 필터는 항목을 뺄 수 없으므로, 주기적 재적재(TokenRevocationService) 때 만료 항목을 뺀 새 필터로 통째로 교체합니다.
+ * - 지표: auth.revocation.checks{result=pass|bloom_hit|revoked}, auth.revocation.size
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final long TOKEN_SALT = 0x5bd1e9955bd1e995L;
+    private static final long USER_SALT = 0x9e3779b97f4a7c15L;
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private volatile Snapshot snapshot; // 🔑 읽는 쪽은 이 참조 하나만 봄 (락 없음)
+    private List<Revocation> sinceReload; // 👈 재적재 중에 들어온 폐기 (synchronized 안에서만 접근)
+
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder bloomHits = new LongAdder();
+    private final LongAdder revoked = new LongAdder();
+
+    public TokenRevocationList(MeterRegistry meterRegistry,
+                               @Value("${jwt.revocation.expected-entries:10000}") int expectedEntries,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedEntries, falsePositiveRate));
+
+        FunctionCounter.builder("auth.revocation.checks", passes, LongAdder::sum)
+                .tag("result", "pass").register(meterRegistry);
+        FunctionCounter.builder("auth.revocation.checks", bloomHits, LongAdder::sum)
+                .tag("result", "bloom_hit").register(meterRegistry);
+        FunctionCounter.builder("auth.revocation.checks", revoked, LongAdder::sum)
+                .tag("result", "revoked").register(meterRegistry);
+        Gauge.builder("auth.revocation.size", this, TokenRevocationList::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 폐기 여부 확인 (매 요청)
+     * @param jti      토큰 ID (없는 토큰이면 null - 사용자 단위만 확인)
+     * @param issuedAt 토큰 발급 시각
+     */
+    public boolean isRevoked(String jti, Long userId, Date issuedAt) {
+        Snapshot current = snapshot;
+        boolean bloomHit = false;
+
+        if (jti != null && current.bloom.mightContain(tokenHash(jti))) {
+            bloomHit = true;
+            if (current.tokens.containsKey(jti)) {
+                revoked.increment();
+                return true;
+            }
+        }
+        if (current.bloom.mightContain(userHash(userId))) {
+            bloomHit = true;
+            Long revokedBefore = current.users.get(userId);
+            if (revokedBefore != null && (issuedAt == null || issuedAt.getTime() < revokedBefore)) {
+                revoked.increment();
+                return true;
+            }
+        }
+
+        (bloomHit ? bloomHits : passes).increment();
+        return false;
+    }
+
+    /**
+     * 2. 토큰 폐기 반영 (커밋 이후)
+     */
+    public void revokeToken(String jti, long expiresAt) {
+        AfterCommit.run(() -> apply(new Revocation(jti, null, expiresAt)));
+    }
+
+    /**
+     * 3. 사용자 단위 폐기 반영 (커밋 이후) - revokedBefore 이전 발급 토큰 모두 거부
+     */
+    public void revokeUser(Long userId, long revokedBefore) {
+        AfterCommit.run(() -> apply(new Revocation(null, userId, revokedBefore)));
+    }
+
+    /**
+     * 4. 재적재 시작 - 이후 들어오는 폐기는 새 스냅샷에도 다시 더함 (DB 조회와 겹쳐도 빠지지 않도록)
+     */
+    public synchronized void beginReload() {
+        sinceReload = new ArrayList<>();
+    }
+
+    /**
+     * 5. 재적재 완료 - 만료 항목을 뺀 새 블룸 필터/목록으로 교체
+     */
+    public void replace(Collection<RevokedToken> tokens, Collection<UserTokenRevocation> users) {
+        int entries = tokens.size() + users.size();
+        Snapshot next = new Snapshot(new BloomFilter(Math.max(expectedEntries, entries * 2), falsePositiveRate));
+        tokens.forEach(token -> next.add(new Revocation(token.getJti(), null, toMillis(token.getExpiresAt()))));
+        users.forEach(user -> next.add(new Revocation(null, user.getUserId(), toMillis(user.getRevokedBefore()))));
+
+        synchronized (this) {
+            if (sinceReload != null) {
+                sinceReload.forEach(next::add);
+            }
+            sinceReload = null;
+            snapshot = next;
+        }
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current.tokens.size() + current.users.size();
+    }
+
+    private synchronized void apply(Revocation revocation) {
+        snapshot.add(revocation);
+        if (sinceReload != null) {
+            sinceReload.add(revocation);
+        }
+    }
+
+    // 👈 DB 시각은 서버 시간대 기준 (LocalDateTime.now() 로 기록)
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 🔑 jti 는 FNV-1a(64bit), user_id 는 그대로 섞어서 사용 (종류별 salt 로 서로 겹치지 않게)
+    private static long tokenHash(String jti) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < jti.length(); i++) {
+            hash ^= jti.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash ^ TOKEN_SALT);
+    }
+
+    private static long userHash(Long userId) {
+        return mix(userId ^ USER_SALT);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 폐기 항목 - 토큰 단위(jti, 만료 시각) 또는 사용자 단위(user_id, revoked_before)
+     */
+    private record Revocation(String jti, Long userId, long millis) {
+    }
+
+    private static final class Snapshot {
+        private final BloomFilter bloom;
+        private final Map<String, Long> tokens = new ConcurrentHashMap<>(); // Key: jti, Value: 만료 시각
+        private final Map<Long, Long> users = new ConcurrentHashMap<>();    // Key: user_id, Value: revoked_before
+
+        private Snapshot(BloomFilter bloom) {
+            this.bloom = bloom;
+        }
+
+        // 🔑 정확한 목록에 먼저 넣고 블룸 필터 비트를 켬 (비트가 보이면 목록에도 반드시 있음)
+        private void add(Revocation revocation) {
+            if (revocation.jti() != null) {
+                tokens.put(revocation.jti(), revocation.millis());
+                bloom.put(tokenHash(revocation.jti()));
+            } else {
+                users.merge(revocation.userId(), revocation.millis(), Math::max);
+                bloom.put(userHash(revocation.userId()));
+            }
+        }
+    }
+
+    /**
+     * 블룸 필터 (비트 배열 + 이중 해싱으로 k 개 위치)
+     * - 크기: m = -n·ln(p) / (ln 2)², k = (m / n)·ln 2
+     * - 비트 설정은 CAS 로, 읽기는 락 없이
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        private BloomFilter(int expectedEntries, double falsePositiveRate) {
+            int n = Math.max(1, expectedEntries);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitSize = words * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        }
+
+        private void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = index(h1 + i * h2);
+                long mask = 1L << index;
+                bits.accumulateAndGet((int) (index >>> 6), mask, (word, bit) -> word | bit);
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = index(h1 + i * h2);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false; // 👈 하나라도 꺼져 있으면 확실히 없음
+                }
+            }
+            return true;
+        }
+
+        private long index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitSize;
+        }
+    }
+}
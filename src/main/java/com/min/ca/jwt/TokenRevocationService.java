@@ -0,0 +1,89 @@
+package com.min.ca.jwt;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 폐기 (로그아웃, 탈취된 토큰, 사용자 단위 강제 로그아웃)
+ * - DB 에 기록하고 커밋 이후 인메모리 목록(TokenRevocationList)에 반영합니다.
+ * - 주기적으로 만료된 항목을 지우고 목록을 다시 적재합니다. (다른 서버에서 등록한 폐기도 이때 반영)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenRevocationRepository userRevocationRepository;
+    private final TokenRevocationList revocationList;
+    private final long tokenValidityInMilliseconds;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserTokenRevocationRepository userRevocationRepository,
+                                  TokenRevocationList revocationList,
+                                  @Value("${jwt.token-validity-in-seconds}") long tokenValidityInMilliseconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRevocationRepository = userRevocationRepository;
+        this.revocationList = revocationList;
+        this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+    }
+
+    /**
+     * 1. 토큰 하나 폐기 (로그아웃 / 탈취된 토큰)
+     * @param claims 검증된 토큰 내용 (jti 가 없는 토큰은 사용자 단위로만 폐기 가능)
+     */
+    @Transactional
+    public void revokeToken(Claims claims, Long userId) {
+        if (claims.getId() == null) {
+            throw new IllegalArgumentException("토큰 ID가 없는 토큰입니다.");
+        }
+        Date expiration = claims.getExpiration();
+        revokedTokenRepository.revoke(claims.getId(), userId, toLocalDateTime(expiration.getTime()));
+        revocationList.revokeToken(claims.getId(), expiration.getTime());
+    }
+
+    /**
+     * 2. 사용자 단위 폐기 - 지금 이전에 발급된 그 사용자의 모든 토큰 거부
+     * - 토큰 발급 시각(iat)은 초 단위이므로 초 단위로 자름 (폐기 직후 다시 로그인한 토큰은 통과)
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        long revokedBefore = System.currentTimeMillis() / 1000 * 1000;
+        userRevocationRepository.revoke(userId, toLocalDateTime(revokedBefore),
+                toLocalDateTime(revokedBefore + tokenValidityInMilliseconds));
+        revocationList.revokeUser(userId, revokedBefore);
+    }
+
+    /**
+     * 3. 만료 항목 삭제 + 인메모리 목록 재적재 (기동 시 + 주기적)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.revocation.refresh-cron:0 */5 * * * *}")
+    @Transactional
+    public void reload() {
+        revocationList.beginReload();
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenRepository.deleteExpired(now) + userRevocationRepository.deleteExpired(now);
+        revocationList.replace(revokedTokenRepository.findAllActive(now), userRevocationRepository.findAllActive(now));
+
+        if (deleted > 0) {
+            log.info("만료된 토큰 폐기 항목 {}건 삭제", deleted);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
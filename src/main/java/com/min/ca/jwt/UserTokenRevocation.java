@@ -0,0 +1,35 @@
+package com.min.ca.jwt;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 단위 토큰 폐기
+ * - revokedBefore 이전에 발급된 그 사용자의 토큰은 모두 거부합니다. (모든 기기 로그아웃)
+ * - expiresAt 이 지나면 그 이전 토큰이 모두 만료되었으므로 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "USER_TOKEN_REVOCATION",
+        indexes = @Index(name = "idx_user_token_revocation_expires", columnList = "expires_at"))
+public class UserTokenRevocation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_before", nullable = false)
+    private LocalDateTime revokedBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
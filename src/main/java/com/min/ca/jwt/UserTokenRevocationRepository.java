@@ -0,0 +1,33 @@
+package com.min.ca.jwt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, Long> {
+
+    // 🔑 1. 사용자 단위 폐기 등록 (이미 있으면 더 늦은 시각으로 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO user_token_revocation (user_id, revoked_before, expires_at) " +
+            "VALUES (:userId, :revokedBefore, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE revoked_before = GREATEST(revoked_before, VALUES(revoked_before)), " +
+            "expires_at = GREATEST(expires_at, VALUES(expires_at))",
+            nativeQuery = true)
+    int revoke(@Param("userId") Long userId, @Param("revokedBefore") LocalDateTime revokedBefore,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 🔑 2. 아직 유효한 사용자 단위 폐기 (인메모리 목록 적재용)
+    @Query("SELECT r FROM UserTokenRevocation r WHERE r.expiresAt > :now")
+    List<UserTokenRevocation> findAllActive(@Param("now") LocalDateTime now);
+
+    // 🔑 3. 그 이전 토큰이 모두 만료된 항목 삭제
+    @Modifying
+    @Query(value = "DELETE FROM user_token_revocation WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,90 @@
+package com.min.ca.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 토큰의 claims 캐시
+ * - 키: 토큰의 SHA-256 다이제스트 (토큰 원문은 메모리에 보관하지 않음)
+ * - 같은 토큰으로 반복 요청하면 Base64/JSON 디코딩과 HMAC 검증을 건너뜁니다.
+ * - 항목은 토큰 만료 시각까지만 유효하고, 최대 maxSize 개 (LRU)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<ByteBuffer, Entry> entries;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 1. 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public Claims get(String token) {
+        ByteBuffer key = digest(token);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key); // 👈 만료된 토큰 (호출 측에서 다시 검증 -> 만료로 거부)
+                return null;
+            }
+            return entry.claims();
+        }
+    }
+
+    /**
+     * 2. 검증된 claims 저장 (만료 시각이 없는 토큰은 캐시하지 않음)
+     */
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        ByteBuffer key = digest(token);
+        synchronized (this) {
+            entries.put(key, new Entry(claims, claims.getExpiration().getTime()));
+        }
+    }
+
+    /**
+     * 3. 전체 비우기 (서명 키 교체 등)
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
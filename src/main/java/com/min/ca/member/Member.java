@@ -9,9 +9,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,11 +24,15 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 🔑 JPA는 기본 생성자 필요
-@Table(name = "MEMBER")
+@Table(name = "MEMBER",
+        indexes = @Index(name = "idx_member_group_active", columnList = "group_id, is_active"))
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "member_id")
+    @TableGenerator(name = "member_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "member", allocationSize = 50)
     @Column(name = "member_id")
     private Long id;
 
@@ -39,7 +45,10 @@ public class Member {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true; // 🔑 프론트엔드와 맞춘 camelCase
     
-    @Column(nullable = false)
+    // 🔑 '압축된' 누적 달란트 - 현재 잔액은 TalentLedger 미압축 행을 더한 값 (TalentLedgerService 참고)
+    //    MEMBER.talent 는 야간 압축(native UPDATE ... JOIN)만 씁니다. updatable = false 로 이름/연락처/활성 수정 시
+    //    JPA 가 읽어둔(오래된) 값을 다시 쓰지 않게 하여, 압축과 겹쳐도 반영된 합계가 사라지지 않습니다.
+    @Column(nullable = false, updatable = false)
     private int talent = 0;
     
     @Builder
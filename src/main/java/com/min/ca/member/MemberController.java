@@ -1,6 +1,6 @@
 package com.min.ca.member;
 
-import com.min.ca.user.User; // 🔑 현재 로그인한 사용자 정보를 받기 위해
+import com.min.ca.user.UserPrincipal; // 🔑 현재 로그인한 사용자 정보를 받기 위해
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,14 +19,14 @@ public class MemberController {
     /**
      * 1. 회원 조회 (GET /api/members)
      * - @AuthenticationPrincipal: Spring Security가 JWT 토큰을 분석하여,
-     * 현재 로그인한 사용자의 'User' 객체를 'userDetails' 파라미터에 자동 주입해줍니다.
+     * 현재 로그인한 사용자의 'UserPrincipal'(토큰 claims)을 'userDetails' 파라미터에 자동 주입해줍니다.
      */
     @GetMapping
     public ResponseEntity<List<MemberDto.Response>> getMyMembers(
-            @AuthenticationPrincipal User userDetails) {
+            @AuthenticationPrincipal UserPrincipal userDetails) {
         
         // 1. 로그인한 유저의 'group_id'를 가져옵니다.
-        Long groupId = userDetails.getGroup().getId();
+        Long groupId = userDetails.getGroupId();
         
         // 2. Service를 호출하여 해당 그룹의 회원 목록을 받습니다.
         List<MemberDto.Response> members = memberService.getMembersByGroupId(groupId);
@@ -39,10 +39,10 @@ public class MemberController {
      */
     @PostMapping
     public ResponseEntity<MemberDto.Response> createMember(
-            @AuthenticationPrincipal User userDetails,
+            @AuthenticationPrincipal UserPrincipal userDetails,
             @RequestBody MemberDto.CreateRequest request) { 
         
-        Long groupId = userDetails.getGroup().getId();
+        Long groupId = userDetails.getGroupId();
         
         // 2. Service를 호출하여 회원을 추가합니다.
         // 🔑 userDetails 객체를 서비스로 전달
@@ -58,9 +58,10 @@ public class MemberController {
     public ResponseEntity<MemberDto.Response> updateMember(
             // 🔑 URL 경로의 "memberId"를 이 파라미터에 주입하라고 명시
             @PathVariable("memberId") Long memberId, 
-            @RequestBody MemberDto.UpdateRequest request) {
+            @RequestBody MemberDto.UpdateRequest request,
+            @AuthenticationPrincipal UserPrincipal userDetails) {
         
-        MemberDto.Response updatedMember = memberService.updateMember(memberId, request);
+        MemberDto.Response updatedMember = memberService.updateMember(memberId, request, userDetails);
         return ResponseEntity.ok(updatedMember);
     }
 
@@ -18,13 +18,18 @@ public class MemberDto {
 
         // 엔티티를 DTO로 변환하는 생성자
         public Response(Member member) {
+            this(member, member.getTalent());
+        }
+
+        // 🔑 달란트 원장 기준 '현재 잔액'을 함께 받는 생성자
+        public Response(Member member, int talent) {
             this.id = member.getId();
             this.name = member.getName();
             this.contact = member.getContact();
             this.isActive = member.isActive();
             this.groupId = member.getGroup().getId();
             this.groupName = member.getGroup().getName();
-            this.talent = member.getTalent();
+            this.talent = talent;
         }
     }
 
@@ -1,9 +1,13 @@
 package com.min.ca.member; // (Member.java와 동일한 패키지)
 
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +18,26 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 🔑 [신규] is_active와 상관없이 그룹 ID로 모든 멤버 찾기 (findAllByGroup_Id는 JPA 기본 키워드)
     List<Member> findAllByGroup_Id(Long groupId);
-}
\ No newline at end of file
+
+    // 🔑 [신규] 이 그룹 출결판에 쓸 수 있는 회원 ID만 '한 번의 쿼리'로 조회 (출결 일괄 저장 시 검증용)
+    //    - 지금 이 그룹 소속이거나, 이 날짜 출결판에 이미 스냅샷이 있는 회원 (그 사이 이동/비활성화된 회원)
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids AND (m.group.id = :groupId OR EXISTS ("
+            + "SELECT a.id FROM Attendance a WHERE a.member = m AND a.group.id = :groupId AND a.date = :date))")
+    List<Long> findWritableIds(@Param("ids") Collection<Long> ids,
+                               @Param("groupId") Long groupId,
+                               @Param("date") LocalDate date);
+
+    // 🔑 (출결 가져오기) 여러 그룹의 회원 (ID, 이름, 그룹) - 이름으로 회원을 찾는 메모리 맵용
+    @Query("SELECT m.id AS id, m.name AS name, m.group.id AS groupId FROM Member m WHERE m.group.id IN :groupIds")
+    List<NameKey> findNameKeys(@Param("groupIds") Collection<Long> groupIds);
+
+    // 🔑 (출결판 워밍업) 활성 회원이 한 명 이상 있는 그룹 ID
+    @Query("SELECT DISTINCT m.group.id FROM Member m WHERE m.isActive = true AND m.group IS NOT NULL")
+    List<Long> findActiveGroupIds();
+
+    interface NameKey {
+        Long getId();
+        String getName();
+        Long getGroupId();
+    }
+}
@@ -1,14 +1,21 @@
 package com.min.ca.member;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 🔑 중요
 
+import com.min.ca.analytics.AttendanceAnalyticsStore;
+import com.min.ca.attendance.AttendanceBoardCache;
+import com.min.ca.attendance.AttendanceBoardVersionRepository;
+import com.min.ca.attendance.AttendanceLiveHub;
 import com.min.ca.group.ChurchGroup;
 import com.min.ca.group.ChurchGroupRepository;
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,7 +25,12 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final ChurchGroupRepository groupRepository; // 🔑 그룹 ID로 그룹 객체를 찾기 위해
-    // (USER Repository는 user_id를 Member에 저장해야 할 때 주입 필요)
+    private final TalentLedgerService talentLedgerService; // 🔑 달란트는 원장으로만 변경
+    private final AttendanceAnalyticsStore analyticsStore; // 🔑 분석 저장소는 커밋 후 증분 반영
+    private final AttendanceBoardCache boardCache; // 🔑 캐시된 '오늘' 출결판도 커밋 후 갱신
+    private final AttendanceBoardVersionRepository boardVersionRepository; // 🔑 명단 변경 시 동기화 클라이언트는 전체 재조회
+    private final AttendanceLiveHub liveHub;
+    private final UserRepository userRepository; // 🔑 user_id 를 Member에 저장할 때 (프록시만 사용)
 
     // 1. 회원 조회 (로그인한 유저의 group_id 기준)
     @Transactional(readOnly = true)
@@ -26,16 +38,20 @@ public class MemberService {
         // 1. Repository를 통해 DB에서 엔티티 목록 조회
         List<Member> members = memberRepository.findAllByGroup_Id(groupId);
 
-        // 2. 엔티티 목록(List<Member>)을 DTO 목록(List<MemberDto.Response>)으로 변환
+        // 2. 회원들의 현재 달란트 잔액을 '한 번의 쿼리'로 조회 (원장 기준)
+        Map<Long, Integer> balances = talentLedgerService.getBalances(
+                members.stream().map(Member::getId).collect(Collectors.toList()));
+
+        // 3. 엔티티 목록(List<Member>)을 DTO 목록(List<MemberDto.Response>)으로 변환
         return members.stream()
-                .map(member -> new MemberDto.Response(member)) // 🔑 엔티티 -> DTO 변환
+                .map(member -> new MemberDto.Response(member, balances.getOrDefault(member.getId(), member.getTalent()))) // 🔑 엔티티 -> DTO 변환
                 .collect(Collectors.toList());
     }
 
     // 2. 회원 추가
     @Transactional
-    // 🔑 파라미터에 User user 추가
-    public MemberDto.Response addMember(MemberDto.CreateRequest request, Long groupId, User user) {
+    // 🔑 파라미터에 로그인 사용자(UserPrincipal) 추가
+    public MemberDto.Response addMember(MemberDto.CreateRequest request, Long groupId, UserPrincipal user) {
         
         // 1. groupId로 실제 ChurchGroup 엔티티를 조회
         ChurchGroup group = groupRepository.findById(groupId)
@@ -46,13 +62,17 @@ public class MemberService {
                 .name(request.getName())
                 .contact(request.getContact())
                 .group(group) 
-                .user(user) // 👈 [해결] 로그인한 사용자를 Member에 연결
+                .user(userRepository.getReferenceById(user.getId())) // 👈 [해결] 로그인한 사용자를 Member에 연결
                 .isActive(true)
                 .talent(0)
                 .build();
 
         // 3. Repository를 통해 DB에 저장
         Member savedMember = memberRepository.save(newMember);
+        analyticsStore.upsertMember(savedMember.getId(), savedMember.getName(), groupId);
+        boardCache.memberAdded(groupId, savedMember.getId(), savedMember.getName());
+        boardVersionRepository.reset(groupId, LocalDate.now());
+        liveHub.publishReset(groupId, LocalDate.now());
 
         // 4. 저장된 엔티티를 DTO로 변환하여 Controller에 반환
         return new MemberDto.Response(savedMember);
@@ -60,7 +80,7 @@ public class MemberService {
 
     // 3. 회원 수정
     @Transactional
-    public MemberDto.Response updateMember(Long memberId, MemberDto.UpdateRequest request) {
+    public MemberDto.Response updateMember(Long memberId, MemberDto.UpdateRequest request, UserPrincipal user) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다. id=" + memberId));
 
@@ -68,12 +88,27 @@ public class MemberService {
         member.setName(request.getName());
         member.setContact(request.getContact());
 
-        // 🔑 [추가] talent 값이 DTO에 포함되어 넘어온 경우에만 업데이트
+        // 🔑 [수정] talent 값이 DTO에 포함되어 넘어온 경우에만 '차이값'을 원장에 추가
+        //    (MEMBER.talent 를 직접 덮어쓰지 않으므로 동시에 저장된 출결 달란트가 사라지지 않음)
+        //    차이값을 계산할 잔액은 잠금 읽기 👈 커밋까지 그 회원의 출결 원장 INSERT 가 기다림
+        int balance = request.getTalent() != null
+                ? talentLedgerService.lockBalance(memberId)
+                : talentLedgerService.getBalance(memberId);
         if (request.getTalent() != null) {
-            member.setTalent(request.getTalent());
+            int delta = request.getTalent() - balance;
+            talentLedgerService.append(Map.of(memberId, delta), TalentLedger.Reason.MANUAL_ADJUST, null, user.getId());
+            analyticsStore.adjustTalent(memberId, delta);
+            balance = request.getTalent();
+        }
+        Long groupId = member.getGroup() == null ? null : member.getGroup().getId();
+        analyticsStore.upsertMember(memberId, member.getName(), groupId);
+        boardCache.memberUpdated(groupId, memberId, member.getName(), balance);
+        if (groupId != null) {
+            boardVersionRepository.reset(groupId, LocalDate.now());
+            liveHub.publishReset(groupId, LocalDate.now());
         }
         
-        return new MemberDto.Response(member);
+        return new MemberDto.Response(member, balance);
     }
     // 4. 회원 삭제 (Soft Delete)
     @Transactional
@@ -84,6 +119,12 @@ public class MemberService {
 
         // 2. isActive 플래그 변경
         member.setActive(false); // 🔑 (Member 엔티티에 setter가 있어야 함)
+        analyticsStore.deactivate(memberId);
+        if (member.getGroup() != null) {
+            boardCache.memberRemoved(member.getGroup().getId(), memberId);
+            boardVersionRepository.reset(member.getGroup().getId(), LocalDate.now());
+            liveHub.publishReset(member.getGroup().getId(), LocalDate.now());
+        }
 
         // 3. @Transactional 종료 시 UPDATE 쿼리 자동 실행
     }
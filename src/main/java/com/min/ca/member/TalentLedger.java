@@ -0,0 +1,88 @@
+package com.min.ca.member;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.min.ca.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 달란트 원장 (Append-only)
+ * - 달란트 변경은 MEMBER.talent 를 직접 고치지 않고, 부호 있는 증감(delta) 한 줄을 추가합니다.
+ * - 현재 잔액 = MEMBER.talent (압축된 잔액) + 아직 압축되지 않은 원장 delta 합계
+ * - 주기적인 압축(compaction)이 미압축 행을 MEMBER.talent 에 반영하고 compaction_batch 를 표시합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "TALENT_LEDGER")
+public class TalentLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "talent_ledger_id")
+    @TableGenerator(name = "talent_ledger_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "talent_ledger", allocationSize = 50)
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private int delta; // 🔑 부호 있는 증감값 (예: +3, -2)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    // 출결로 인한 변경이면 해당 출결 날짜
+    @Column(name = "attendance_date")
+    private LocalDate attendanceDate;
+
+    // 변경한 사람 (속장/예비속장 등)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // 압축 배치 번호 (null 이면 아직 MEMBER.talent 에 반영되지 않음)
+    @Column(name = "compaction_batch")
+    private Long compactionBatch;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TalentLedger(Member member, int delta, Reason reason, LocalDate attendanceDate, User user) {
+        this.member = member;
+        this.delta = delta;
+        this.reason = reason;
+        this.attendanceDate = attendanceDate;
+        this.user = user;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum Reason {
+        ATTENDANCE,    // 출결 스냅샷 저장/수정
+        MANUAL_ADJUST, // 회원 수정 화면에서 직접 조정
+        ROLLBACK,      // 출결 삭제로 인한 되돌리기
+        IMPORT         // 과거 출결 일괄 가져오기
+    }
+}
@@ -0,0 +1,54 @@
+package com.min.ca.member;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TalentLedgerRepository extends JpaRepository<TalentLedger, Long> {
+
+    // 🔑 1. 여러 회원의 현재 잔액 (압축 잔액 + 미압축 delta 합계)을 한 번에 조회
+    @Query("SELECT m.id AS memberId, " +
+           "CAST(m.talent + COALESCE(SUM(l.delta), 0) AS Integer) AS balance " +
+           "FROM Member m LEFT JOIN TalentLedger l ON l.member = m AND l.compactionBatch IS NULL " +
+           "WHERE m.id IN :memberIds " +
+           "GROUP BY m.id, m.talent")
+    List<Balance> findBalances(@Param("memberIds") Collection<Long> memberIds);
+
+    // 🔑 2. (압축 1단계) 현재 보이는 미압축 행에 배치 번호 표시
+    @Modifying
+    @Query(value = "UPDATE talent_ledger SET compaction_batch = :batch WHERE compaction_batch IS NULL",
+            nativeQuery = true)
+    int markCompactionBatch(@Param("batch") long batch);
+
+    // 🔑 3. (압축 2단계) 표시된 행의 합계를 MEMBER.talent 에 한 번에 반영
+    @Modifying
+    @Query(value = "UPDATE member m " +
+            "JOIN (SELECT member_id, SUM(delta) AS total FROM talent_ledger " +
+            "      WHERE compaction_batch = :batch GROUP BY member_id) l " +
+            "ON l.member_id = m.member_id " +
+            "SET m.talent = m.talent + l.total",
+            nativeQuery = true)
+    int applyCompactionBatch(@Param("batch") long batch);
+
+    // 🔑 4. (수동 조정) 한 회원의 잔액을 잠금 읽기로 조회
+    //    - MEMBER 행과 그 회원의 미압축 원장 범위를 FOR UPDATE 로 잠가, 커밋까지 그 회원의 원장 INSERT/압축이 기다림
+    @Query(value = "SELECT CAST(m.talent + COALESCE((SELECT SUM(l.delta) FROM talent_ledger l " +
+            "      WHERE l.member_id = m.member_id AND l.compaction_batch IS NULL FOR UPDATE), 0) AS SIGNED) " +
+            "FROM member m WHERE m.member_id = :memberId FOR UPDATE",
+            nativeQuery = true)
+    Long lockBalance(@Param("memberId") Long memberId);
+
+    /**
+     * 잔액 조회용 Projection
+     */
+    interface Balance {
+        Long getMemberId();
+        Integer getBalance();
+    }
+}
@@ -0,0 +1,101 @@
+package com.min.ca.member;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.min.ca.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 달란트 원장 서비스
+ * - 쓰기는 원장 INSERT(배치)만 하므로 MEMBER 행 잠금/덮어쓰기(lost update)가 없습니다.
+ * - 잔액 읽기는 MEMBER.talent + 미압축 행(압축 주기 동안 쌓인 몇 줄) 합계입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TalentLedgerService {
+
+    private final TalentLedgerRepository talentLedgerRepository;
+    private final MemberRepository memberRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 1. 여러 회원의 달란트 증감을 원장에 추가 (0 인 값은 무시)
+     * @param deltas Key: member_id, Value: 증감값
+     * @param userId 변경한 사용자 (없으면 null)
+     */
+    @Transactional
+    public void append(Map<Long, Integer> deltas, TalentLedger.Reason reason, LocalDate attendanceDate, Long userId) {
+        List<TalentLedger> entries = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> TalentLedger.builder()
+                        .member(memberRepository.getReferenceById(entry.getKey()))
+                        .delta(entry.getValue())
+                        .reason(reason)
+                        .attendanceDate(attendanceDate)
+                        .user(userId == null ? null : userRepository.getReferenceById(userId))
+                        .build())
+                .collect(Collectors.toList());
+
+        talentLedgerRepository.saveAll(entries); // 🔑 hibernate.jdbc.batch_size 로 묶여서 INSERT
+    }
+
+    /**
+     * 2. 여러 회원의 현재 잔액 (Key: member_id)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getBalances(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return talentLedgerRepository.findBalances(memberIds).stream()
+                .collect(Collectors.toMap(TalentLedgerRepository.Balance::getMemberId,
+                        TalentLedgerRepository.Balance::getBalance));
+    }
+
+    /**
+     * 3. 한 회원의 현재 잔액
+     */
+    @Transactional(readOnly = true)
+    public int getBalance(Long memberId) {
+        return getBalances(List.of(memberId)).getOrDefault(memberId, 0);
+    }
+
+    /**
+     * 4. 한 회원의 현재 잔액 (잠금 읽기)
+     * - 읽은 잔액으로 조정값을 계산해 추가할 때 사용합니다. 커밋까지 그 회원의 출결 원장 INSERT 가 기다리므로
+     *   읽기와 추가 사이에 다른 증감이 끼어들어 사라지지 않습니다.
+     */
+    @Transactional
+    public int lockBalance(Long memberId) {
+        Long balance = talentLedgerRepository.lockBalance(memberId);
+        return balance == null ? 0 : balance.intValue();
+    }
+
+    /**
+     * 5. 압축: 미압축 원장 행을 MEMBER.talent 에 반영 (원장 행은 이력으로 남김)
+     * - 기본: 매일 새벽 3시 (talent.ledger.compaction-cron)
+     */
+    @Scheduled(cron = "${talent.ledger.compaction-cron:0 0 3 * * *}")
+    @Transactional
+    public void compact() {
+        long batch = System.currentTimeMillis();
+
+        int marked = talentLedgerRepository.markCompactionBatch(batch);
+        if (marked == 0) {
+            return;
+        }
+        int members = talentLedgerRepository.applyCompactionBatch(batch);
+        log.info("달란트 원장 압축 완료: batch={}, 원장 {}건, 회원 {}명", batch, marked, members);
+    }
+}
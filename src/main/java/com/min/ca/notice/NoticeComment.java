@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 public class NoticeComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notice_comment_id")
+    @TableGenerator(name = "notice_comment_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "notice_comment", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -1,6 +1,6 @@
 package com.min.ca.notice;
 
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +22,7 @@ public class NoticeController {
      */
     @GetMapping
     public ResponseEntity<List<NoticeDto.NoticeResponse>> getMyNoticeList(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
         
         List<NoticeDto.NoticeResponse> notices = noticeService.getNoticeList(user);
         return ResponseEntity.ok(notices);
@@ -34,7 +34,7 @@ public class NoticeController {
      */
     @GetMapping("/{noticeId}")
     public ResponseEntity<NoticeDto.NoticeDetailResponse> getNoticeDetail(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("noticeId") Long noticeId) {
         
         NoticeDto.NoticeDetailResponse noticeDetail = noticeService.getNoticeDetail(user, noticeId);
@@ -47,7 +47,7 @@ public class NoticeController {
      */
     @PostMapping
     public ResponseEntity<NoticeDto.NoticeResponse> createNotice( // 🔑 1. DTO로 변경
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestBody NoticeDto.CreateNoticeRequest request) {
 
         NoticeDto.NoticeResponse newNoticeDto = noticeService.createNotice(user, request); // 🔑 2. DTO로 받음
@@ -60,7 +60,7 @@ public class NoticeController {
      */
     @PostMapping("/{noticeId}/comments")
     public ResponseEntity<NoticeDto.CommentResponse> createComment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("noticeId") Long noticeId,
             @RequestBody NoticeDto.CreateCommentRequest request) {
         
@@ -70,7 +70,7 @@ public class NoticeController {
     
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Void> deleteComment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("commentId") Long commentId) { // 🔑 (@PathVariable 이름 명시)
         
         noticeService.deleteComment(user, commentId);
@@ -79,7 +79,7 @@ public class NoticeController {
     
     @DeleteMapping("/{noticeId}")
     public ResponseEntity<Void> deleteNotice(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("noticeId") Long noticeId) { // 🔑 (@PathVariable 이름 명시)
         
         noticeService.deleteNotice(user, noticeId);
@@ -88,7 +88,7 @@ public class NoticeController {
     
     @PutMapping("/{noticeId}")
     public ResponseEntity<NoticeDto.NoticeResponse> updateNotice( // 🔑 1. DTO로 변경
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("noticeId") Long noticeId,
             @RequestBody NoticeDto.CreateNoticeRequest request) {
 
@@ -7,8 +7,9 @@ import org.springframework.security.access.AccessDeniedException; // 🔑 권한
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.min.ca.group.ChurchGroup;
-import com.min.ca.user.User;
+import com.min.ca.group.ChurchGroupRepository;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,12 +19,14 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final NoticeCommentRepository noticeCommentRepository;
+    private final ChurchGroupRepository groupRepository;
+    private final UserRepository userRepository;
 
     // --- 
     // 🔑 [핵심 1] 권한 검사 (글쓰기)
     // "글 작성 - 1, 4를 role 가지고, group_id가 parent_id가 없는 user만" [cite]
     // ---
-    private void checkWritePermission(User user) {
+    private void checkWritePermission(UserPrincipal user) {
         boolean hasRole = (user.getRole() == 1 || user.getRole() == 4);
         
         // 🔑 [수정] role 조건만 확인합니다.
@@ -36,25 +39,25 @@ public class NoticeService {
     // 🔑 [핵심 2] 조회 범위 (Scoping)
     // "group_id를 통해서 또 교구끼리만 볼 수 있게 하는거고" [cite]
     // ---
-    private ChurchGroup findMyParishGroup(User user) {
-        // 1. 내가 속장(Role 2)이고 부모 그룹이 있다면, 내 부모 그룹(교구)을 반환
-        if (user.getRole() == 2 && user.getGroup().getParent() != null) {
-            return user.getGroup().getParent();
+    private Long findMyParishGroupId(UserPrincipal user) {
+        // 1. 내가 속장(Role 2)이고 부모 그룹이 있다면, 내 부모 그룹(교구)을 반환 (토큰의 pid - 조회 없음)
+        if (user.getRole() == 2 && user.getParishId() != null) {
+            return user.getParishId();
         }
         // 2. 그 외 (교구장/담당교역자)는 내 그룹(교구)을 반환
-        return user.getGroup();
+        return user.getGroupId();
     }
 
     /**
      * 1. 공지사항 목록 조회 (내 교구만)
      */
     @Transactional(readOnly = true)
-    public List<NoticeDto.NoticeResponse> getNoticeList(User user) {
+    public List<NoticeDto.NoticeResponse> getNoticeList(UserPrincipal user) {
         // 1. 내가 속한 '교구'를 찾음
-        ChurchGroup myParish = findMyParishGroup(user);
+        Long myParishId = findMyParishGroupId(user);
         
         // 2. 해당 교구의 공지사항만 조회
-        List<Notice> notices = noticeRepository.findAllByParishGroupOrderByCreatedDateDesc(myParish);
+        List<Notice> notices = noticeRepository.findAllByParishGroup_IdOrderByCreatedDateDesc(myParishId);
 
         // 3. DTO로 변환
         return notices.stream()
@@ -66,16 +69,16 @@ public class NoticeService {
      * 2. 공지사항 상세 조회 (내 교구만)
      */
     @Transactional(readOnly = true)
-    public NoticeDto.NoticeDetailResponse getNoticeDetail(User user, Long noticeId) {
+    public NoticeDto.NoticeDetailResponse getNoticeDetail(UserPrincipal user, Long noticeId) {
         // 1. 공지사항 조회
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
         // 2. [보안] 내가 속한 '교구'를 찾음
-        ChurchGroup myParish = findMyParishGroup(user);
+        Long myParishId = findMyParishGroupId(user);
         
         // 3. [보안] 이 게시글이 내 교구의 글이 맞는지 확인
-        if (!notice.getParishGroup().getId().equals(myParish.getId())) {
+        if (!notice.getParishGroup().getId().equals(myParishId)) {
             throw new AccessDeniedException("이 게시글을 볼 권한이 없습니다.");
         }
 
@@ -119,7 +122,7 @@ public class NoticeService {
      * 3. 공지사항 작성
      */
     @Transactional
-    public NoticeDto.NoticeResponse createNotice(User user, NoticeDto.CreateNoticeRequest request) {
+    public NoticeDto.NoticeResponse createNotice(UserPrincipal user, NoticeDto.CreateNoticeRequest request) {
         // 1. [권한 검사] 글 쓸 자격이 있는지 확인
         checkWritePermission(user);
 
@@ -128,8 +131,8 @@ public class NoticeService {
                 .title(request.getTitle())
                 .content(request.getContent())
                 .isImportant(request.isImportant())
-                .author(user)
-                .parishGroup(user.getGroup()) // 🔑 글쓴이의 그룹(교구)을 저장
+                .author(userRepository.getReferenceById(user.getId()))
+                .parishGroup(groupRepository.getReferenceById(user.getGroupId())) // 🔑 글쓴이의 그룹(교구)을 저장
                 .build();
         
         Notice savedNotice = noticeRepository.save(notice);
@@ -140,7 +143,7 @@ public class NoticeService {
      * 4. 댓글 작성 (모든 사람이 가능)
      */
     @Transactional
-    public NoticeDto.CommentResponse createComment(User user, Long noticeId, NoticeDto.CreateCommentRequest request) {
+    public NoticeDto.CommentResponse createComment(UserPrincipal user, Long noticeId, NoticeDto.CreateCommentRequest request) {
         // 1. 원본 게시글 조회 (권한 검사 겸용)
         // (getNoticeDetail이 내 교구 글이 아니면 AccessDeniedException을 던짐)
         getNoticeDetail(user, noticeId); 
@@ -151,7 +154,7 @@ public class NoticeService {
         // 3. 댓글 엔티티 생성
         NoticeComment comment = NoticeComment.builder()
                 .content(request.getContent())
-                .author(user)
+                .author(userRepository.getReferenceById(user.getId()))
                 .notice(notice)
                 .build();
         
@@ -162,7 +165,7 @@ public class NoticeService {
     }
     
     @Transactional
-    public void deleteComment(User user, Long commentId) {
+    public void deleteComment(UserPrincipal user, Long commentId) {
         // 1. 댓글 조회
         NoticeComment comment = noticeCommentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
@@ -177,7 +180,7 @@ public class NoticeService {
     }
     
     @Transactional
-    public void deleteNotice(User user, Long noticeId) {
+    public void deleteNotice(UserPrincipal user, Long noticeId) {
         // 1. 게시글 조회
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
@@ -195,7 +198,7 @@ public class NoticeService {
     }
     
     @Transactional
-    public NoticeDto.NoticeResponse updateNotice(User user, Long noticeId, NoticeDto.CreateNoticeRequest request) {
+    public NoticeDto.NoticeResponse updateNotice(UserPrincipal user, Long noticeId, NoticeDto.CreateNoticeRequest request) {
         // 1. 게시글 조회
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
@@ -1,15 +1,26 @@
 package com.min.ca.parish;
 
 import com.min.ca.attendance.AttendanceDto;
-import com.min.ca.user.User;
+import com.min.ca.attendance.AttendanceExportService;
+import com.min.ca.user.UserPrincipal;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -19,6 +30,10 @@ import java.util.List;
 public class ParishController {
 
     private final ParishService parishService;
+    private final AttendanceExportService attendanceExportService;
+
+    @Value("${attendance.export.timeout-millis:600000}")
+    private long exportTimeoutMillis;
 
     /**
      * 1. (교구장) 내가 관리하는 '속(sub-group)' 목록 전체 조회
@@ -26,7 +41,7 @@ public class ParishController {
      */
     @GetMapping("/groups")
     public ResponseEntity<List<ParishDto.GroupResponse>> getMyParishGroups(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
         
         List<ParishDto.GroupResponse> subGroups = parishService.getSubGroups(user);
         return ResponseEntity.ok(subGroups);
@@ -42,7 +57,7 @@ public class ParishController {
      */
     @GetMapping("/attendance")
     public ResponseEntity<AttendanceDto.DayAttendanceResponse> getGroupAttendance(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("groupId") Long groupId,
             @RequestParam("date") String date) {
 
@@ -57,19 +72,94 @@ public class ParishController {
     
     @GetMapping("/attendance/dates")
     public ResponseEntity<List<LocalDate>> getParishAttendanceDates(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "month", required = false) Integer month) {
         
-        List<LocalDate> dates = parishService.getParishAttendanceDates(user);
+        List<LocalDate> dates = parishService.getParishAttendanceDates(user, year, month);
         return ResponseEntity.ok(dates);
     }
     
     @GetMapping("/attendance/summary")
     public ResponseEntity<List<ParishDto.SummaryResponse>> getParishAttendanceSummary(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("date") String date) {
 
         LocalDate attendanceDate = LocalDate.parse(date);
         List<ParishDto.SummaryResponse> summary = parishService.getAttendanceSummary(user, attendanceDate);
         return ResponseEntity.ok(summary);
     }
-}
\ No newline at end of file
+
+    /**
+     * (교구장) 기간별 출결 추이 - 속 × 날짜 행렬
+     * [GET] /api/parish/attendance/trend?from=YYYY-MM-DD&to=YYYY-MM-DD
+     */
+    @GetMapping("/attendance/trend")
+    public ResponseEntity<ParishDto.TrendResponse> getAttendanceTrend(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to) {
+
+        return ResponseEntity.ok(parishService.getAttendanceTrend(user, LocalDate.parse(from), LocalDate.parse(to)));
+    }
+
+    /**
+     * (교구장) 장기 결석자 목록
+     * [GET] /api/parish/attendance/absentees?minWeeks=3
+     */
+    @GetMapping("/attendance/absentees")
+    public ResponseEntity<List<AttendanceDto.AbsenteeRow>> getAbsentees(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam(value = "minWeeks", defaultValue = "3") int minWeeks) {
+
+        return ResponseEntity.ok(parishService.getAbsentees(user, minWeeks));
+    }
+
+    /**
+     * (교구장) 과거 출결 CSV 가져오기 (내보내기와 같은 형식)
+     * [POST] /api/parish/attendance/import?startLine=1  (multipart: file)
+     *
+     * @param startLine (선택) 이전 요청이 중단된 경우 리포트의 resumeFromLine
+     */
+    @PostMapping("/attendance/import")
+    public ResponseEntity<AttendanceDto.ImportReport> importAttendance(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "startLine", defaultValue = "1") int startLine) throws IOException {
+
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(parishService.importAttendance(user, in, startLine));
+        }
+    }
+
+    /**
+     * (교구장) 기간별 출결 CSV 내보내기 (스트리밍)
+     * [GET] /api/parish/attendance/export?from=YYYY-MM-DD&to=YYYY-MM-DD&groupId=...
+     *
+     * @param groupId (선택) 특정 '속'만 - 없으면 교구 전체
+     */
+    @GetMapping("/attendance/export")
+    public WebAsyncTask<Void> exportAttendance(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            HttpServletResponse response) {
+
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = LocalDate.parse(to);
+
+        // 🔑 권한/범위 검사는 스트리밍 시작 전에 (요청 스레드에서) 끝냄
+        List<Long> groupIds = parishService.getExportGroupIds(user, groupId);
+
+        String filename = "attendance_" + fromDate + "_" + toDate + ".csv";
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+
+        // 🔑 긴 비동기 제한 시간은 내보내기에만 적용 (다른 비동기 요청은 기본값 유지)
+        return new WebAsyncTask<>(exportTimeoutMillis, () -> {
+            attendanceExportService.writeCsv(groupIds, fromDate, toDate, response.getOutputStream());
+            return null; // 👈 응답은 이미 직접 씀
+        });
+    }
+}
@@ -1,7 +1,11 @@
 package com.min.ca.parish;
 
-import com.min.ca.attendance.AttendanceDto;
-import com.min.ca.group.ChurchGroup;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import com.min.ca.attendance.AttendanceDailySummary;
+import com.min.ca.group.ChurchGroupHierarchy;
 import com.min.ca.user.User;
 
 import lombok.Getter;
@@ -17,9 +21,9 @@ public class ParishDto {
         private String groupName;
         private String leaderName; // 👈 그 속의 속장(role 2) 이름
         
-        public GroupResponse(ChurchGroup group, User leader) {
-            this.groupId = group.getId();
-            this.groupName = group.getName();
+        public GroupResponse(ChurchGroupHierarchy.Node group, User leader) {
+            this.groupId = group.id();
+            this.groupName = group.name();
             // 속장이 아직 배정되지 않았을 수 있으므로 null 체크
             this.leaderName = (leader != null) ? leader.getName() : "미배정";
         }
@@ -39,30 +43,22 @@ public class ParishDto {
         private int totalTalentToday; // 👈 💡 오늘 획득한 총 달란트
 
         /**
-         * @param group '속' ChurchGroup 엔티티
+         * @param group '속' 그룹 노드 (계층 스냅샷)
          * @param leader 해당 '속'의 속장 User 엔티티
-         * @param groupData (Optional) 해당 속의 출결 상세 데이터
+         * @param summary (Optional) 해당 속의 출결 요약 행 (없으면 미제출)
          */
-        public SummaryResponse(ChurchGroup group, User leader, AttendanceDto.DayAttendanceResponse groupData) {
-            this.groupId = group.getId();
-            this.groupName = group.getName();
+        public SummaryResponse(ChurchGroupHierarchy.Node group, User leader, AttendanceDailySummary summary) {
+            this.groupId = group.id();
+            this.groupName = group.name();
             this.leaderName = (leader != null) ? leader.getName() : "미배정";
 
-            if (groupData != null && groupData.isSnapshotLoaded()) {
+            if (summary != null && summary.isSubmitted()) {
                 this.submitted = true;
-                
-                // 출결 데이터를 순회하며 요약 정보 계산
-                for (AttendanceDto.LoadResponse record : groupData.getRecords()) {
-                    if ("Present".equals(record.getAttendance())) {
-                        this.presentCount++;
-                    } else {
-                        this.absentCount++;
-                    }
-                    // (위 1번에서 DTO를 수정했기 때문에 'talent'에 0이 아닌 실제 값이 들어있음)
-                    this.totalTalentToday += record.getTalent();
-                }
+                this.presentCount = summary.getPresentCount();
+                this.absentCount = summary.getAbsentCount();
+                this.totalTalentToday = summary.getTalentTotal();
             } else {
-                // 스냅샷이 로드되지 않았거나 (미제출), groupData 자체가 null인 경우
+                // 스냅샷이 없는 경우 (미제출)
                 this.submitted = false;
                 this.presentCount = 0;
                 this.absentCount = 0; // (미제출 시 인원수 대신 0으로 표시)
@@ -70,4 +66,49 @@ public class ParishDto {
             }
        }
     }
-}
\ No newline at end of file
+
+    /**
+     * 교구 출결 추이 (속 × 날짜 행렬)
+     * - dates: 기간 안에서 한 속이라도 출결을 등록한 날짜 (오름차순)
+     * - groups[i].present[j] = i 번째 속의 dates[j] 출석 인원 (미제출이면 -1)
+     *   (셀마다 객체를 만들지 않고 속마다 배열 3개로 보내 기간이 길어도 응답이 작음)
+     */
+    @Getter
+    public static class TrendResponse {
+        private final List<LocalDate> dates;
+        private final List<GroupTrend> groups;
+
+        public TrendResponse(List<LocalDate> dates, List<GroupTrend> groups) {
+            this.dates = dates;
+            this.groups = groups;
+        }
+    }
+
+    /**
+     * 한 속의 날짜별 출석/결석/달란트 (TrendResponse.dates 와 같은 순서)
+     */
+    @Getter
+    public static class GroupTrend {
+        private final Long groupId;
+        private final String groupName;
+        private final int[] present;
+        private final int[] absent;
+        private final int[] talent;
+
+        public GroupTrend(ChurchGroupHierarchy.Node group, int size) {
+            this.groupId = group.id();
+            this.groupName = group.name();
+            this.present = new int[size];
+            this.absent = new int[size];
+            this.talent = new int[size];
+            Arrays.fill(this.present, -1); // 👈 미제출
+            Arrays.fill(this.absent, -1);
+        }
+
+        void set(int index, AttendanceDailySummary summary) {
+            this.present[index] = summary.getPresentCount();
+            this.absent[index] = summary.getAbsentCount();
+            this.talent[index] = summary.getTalentTotal();
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.min.ca.parish;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,12 +15,15 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.min.ca.attendance.AttendanceDailySummary;
+import com.min.ca.attendance.AttendanceDailySummaryRepository;
+import com.min.ca.attendance.AttendanceDateIndex;
 import com.min.ca.attendance.AttendanceDto;
-import com.min.ca.attendance.AttendanceRepository;
+import com.min.ca.attendance.AttendanceImportService;
 import com.min.ca.attendance.AttendanceService;
-import com.min.ca.group.ChurchGroup;
-import com.min.ca.group.ChurchGroupRepository;
+import com.min.ca.group.ChurchGroupHierarchy;
 import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import com.min.ca.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,28 +32,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ParishService {
 
-    private final ChurchGroupRepository groupRepository;
+    private final ChurchGroupHierarchy groupHierarchy; // 🔑 교구/속 관계는 인메모리 스냅샷에서 조회
     private final UserRepository userRepository;
-    private final AttendanceService attendanceService;
-    private final AttendanceRepository attendanceRepository;// 🔑 [핵심] 기존 출결 서비스 주입
+    private final AttendanceService attendanceService; // 🔑 [핵심] 기존 출결 서비스 주입
+    private final AttendanceDailySummaryRepository dailySummaryRepository;
+    private final AttendanceDateIndex attendanceDateIndex;
+    private final AttendanceImportService attendanceImportService;
+
+    private static final long MAX_TREND_DAYS = 731; // 👈 추이 조회 최대 기간 (약 2년)
 
     /**
      * 1. 교구장이 관리하는 모든 '속' 그룹 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<ParishDto.GroupResponse> getSubGroups(User user) {
+    public List<ParishDto.GroupResponse> getSubGroups(UserPrincipal user) {
         // 1. 권한 검사 (Role 1: 교구장, Role 4: 교역자)
         checkParishAdminPermission(user);
 
-        // 2. 교구장의 '교구' 그룹을 가져옴
-        ChurchGroup parishGroup = user.getGroup();
-
-        
-        List<ChurchGroup> subGroups = groupRepository.findAllByParent(parishGroup);
+        // 2. 교구장의 '교구' 산하 '속' 목록 (계층 스냅샷, DB 조회 없음)
+        List<ChurchGroupHierarchy.Node> subGroups = groupHierarchy.children(user.getGroupId());
+        if (subGroups.isEmpty()) {
+            return List.of();
+        }
 
         // 4. [성능 최적화] '속' 그룹들의 속장(Role 2) 목록을 '한 번의 쿼리'로 조회
         // (N+1 문제 방지)
-        List<User> leaders = userRepository.findAllByGroupInAndRole(subGroups, 2);
+        List<User> leaders = userRepository.findAllByGroup_IdInAndRole(groupHierarchy.childIds(user.getGroupId()), 2);
 
         // 5. 속장 목록을 Map으로 변환 (Key: group_id, Value: User)
         Map<Long, User> leaderMap = leaders.stream()
@@ -53,7 +66,7 @@ public class ParishService {
         // 6. DTO로 조립하여 반환
         return subGroups.stream()
                 .map(group -> {
-                    User leader = leaderMap.get(group.getId());
+                    User leader = leaderMap.get(group.id());
                     return new ParishDto.GroupResponse(group, leader);
                 })
                 .collect(Collectors.toList());
@@ -63,73 +76,155 @@ public class ParishService {
      * 2. 특정 '속' 그룹의 출결 데이터 조회
      */
     @Transactional(readOnly = true)
-    public AttendanceDto.DayAttendanceResponse getGroupAttendance(User user, Long subGroupId, LocalDate date) {
+    public AttendanceDto.DayAttendanceResponse getGroupAttendance(UserPrincipal user, Long subGroupId, LocalDate date) {
         // 1. 권한 검사 (Role 1: 교구장, Role 4: 교역자)
         checkParishAdminPermission(user);
 
         // 2. [보안] 교구장이 조회하려는 '속(subGroupId)'이
         //    '자신의 교구' 소속이 맞는지 검증
-        ChurchGroup subGroup = groupRepository.findById(subGroupId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다."));
+        checkSubGroupOfParish(user, subGroupId);
 
-        if (subGroup.getParent() == null || !subGroup.getParent().getId().equals(user.getGroup().getId())) {
+        return attendanceService.getAttendance(subGroupId, date);
+    }
+
+    /**
+     * 3. 출결 내보내기 대상 '속' ID 목록
+     * @param subGroupId (선택) 특정 속만 내보낼 때 - 없으면 교구 산하 모든 속
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getExportGroupIds(UserPrincipal user, Long subGroupId) {
+        checkParishAdminPermission(user);
+
+        if (subGroupId != null) {
+            checkSubGroupOfParish(user, subGroupId);
+            return List.of(subGroupId);
+        }
+        return groupHierarchy.childIds(user.getGroupId());
+    }
+
+    /**
+     * 4. (교구장) 교구 장기 결석자 목록 (연속 결석 minWeeks 주 이상, 많은 순)
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceDto.AbsenteeRow> getAbsentees(UserPrincipal user, int minWeeks) {
+        checkParishAdminPermission(user);
+        return attendanceService.getAbsentees(user.getGroupId(), minWeeks);
+    }
+
+    /**
+     * 5. (교구장) 기간별 출결 추이 (속 × 날짜 행렬)
+     * - 출결 요약 테이블 '한 번의 쿼리'로 만들며, ATTENDANCE 를 스캔하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public ParishDto.TrendResponse getAttendanceTrend(UserPrincipal user, LocalDate from, LocalDate to) {
+        checkParishAdminPermission(user);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_TREND_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_TREND_DAYS + "일입니다.");
+        }
+
+        // 1. 교구 산하 '속' 목록 + 기간 내 요약 행 (한 번의 쿼리)
+        List<ChurchGroupHierarchy.Node> subGroups = groupHierarchy.children(user.getGroupId());
+        if (subGroups.isEmpty()) {
+            return new ParishDto.TrendResponse(List.of(), List.of());
+        }
+        List<AttendanceDailySummary> summaries = dailySummaryRepository.findAllByGroupIdInAndDateBetweenAndSubmittedTrue(
+                groupHierarchy.childIds(user.getGroupId()), from, to);
+
+        // 2. 날짜 축 (한 속이라도 제출한 날짜만)
+        List<LocalDate> dates = summaries.stream()
+                .map(AttendanceDailySummary::getDate)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        Map<LocalDate, Integer> dateIndex = new HashMap<>();
+        for (int i = 0; i < dates.size(); i++) {
+            dateIndex.put(dates.get(i), i);
+        }
+
+        // 3. 속마다 배열을 채움
+        Map<Long, ParishDto.GroupTrend> trends = new LinkedHashMap<>();
+        subGroups.forEach(group -> trends.put(group.id(), new ParishDto.GroupTrend(group, dates.size())));
+        summaries.forEach(summary -> trends.get(summary.getGroupId()).set(dateIndex.get(summary.getDate()), summary));
+
+        return new ParishDto.TrendResponse(dates, new ArrayList<>(trends.values()));
+    }
+
+    /**
+     * 6. (교구장) 과거 출결 CSV 가져오기 - 자신의 교구 산하 속으로만
+     */
+    public AttendanceDto.ImportReport importAttendance(UserPrincipal user, InputStream in, int startLine) throws IOException {
+        checkParishAdminPermission(user);
+        return attendanceImportService.importCsv(in, user.getGroupId(), user.getId(), startLine);
+    }
+
+    // [보안] 조회하려는 '속(subGroupId)'이 '자신의 교구' 소속이 맞는지 검증
+    private void checkSubGroupOfParish(UserPrincipal user, Long subGroupId) {
+        if (groupHierarchy.find(subGroupId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 그룹입니다.");
+        }
+        if (!groupHierarchy.isDescendantOf(subGroupId, user.getGroupId())) {
             throw new AccessDeniedException("조회 권한이 없는 그룹입니다.");
         }
-        return attendanceService.getAttendance(subGroupId, date);
     }
 
 
     // 권한 검사 헬퍼 메서드
-    private void checkParishAdminPermission(User user) {
+    private void checkParishAdminPermission(UserPrincipal user) {
         if (user.getRole() != 1 && user.getRole() != 4) {
             throw new AccessDeniedException("교구장 또는 교역자만 접근 가능합니다.");
         }
     }
     
     @Transactional(readOnly = true)
-    public List<LocalDate> getParishAttendanceDates(User user) {
+    public List<LocalDate> getParishAttendanceDates(UserPrincipal user, Integer year, Integer month) {
         // 1. 권한 검사 (Role 1: 교구장, Role 4: 교역자)
         checkParishAdminPermission(user);
 
-        // 2. 교구장의 '교구' 그룹 ID
-        Long parishGroupId = user.getGroup().getId();
+        // 2. 교구장의 '교구' 산하 '속' 그룹 ID 목록
+        List<Long> subGroupIds = groupHierarchy.childIds(user.getGroupId());
 
-        // 3. 💡 [핵심 JPQL]
-        //    '내 교구(parishGroupId)'를 '부모(parent)'로 가지는 '속' 그룹들의
-        //    'Attendance' 기록에서 중복 없는 '날짜'만 모두 조회
-        return attendanceRepository.findDistinctDatesByParish(parishGroupId);
+        // 3. 💡 [핵심] 속별 '저장 날짜 인덱스'의 합집합 (ATTENDANCE 테이블 조회 없음)
+        return attendanceDateIndex.getDates(subGroupIds, year, month);
     }
     
     @Transactional(readOnly = true)
-    public List<ParishDto.SummaryResponse> getAttendanceSummary(User user, LocalDate date) {
+    public List<ParishDto.SummaryResponse> getAttendanceSummary(UserPrincipal user, LocalDate date) {
         // 1. 권한 검사 (Role 1: 교구장, Role 4: 교역자)
         checkParishAdminPermission(user);
 
         // 2. 교구장의 '교구' 그룹
-        ChurchGroup parishGroup = user.getGroup();
+        return getParishSummary(user.getGroupId(), date);
+    }
 
-        // 3. 교구 산하 '모든 속' 그룹 목록 조회
-        List<ChurchGroup> subGroups = groupRepository.findAllByParent(parishGroup);
+    /**
+     * 교구 하나의 속별 출결 요약 (권한 검사는 호출 측 - 교구장 요약 / 교회 전체 대시보드)
+     */
+    @Transactional(readOnly = true)
+    public List<ParishDto.SummaryResponse> getParishSummary(Long parishGroupId, LocalDate date) {
+        // 3. 교구 산하 '모든 속' 그룹 목록 (계층 스냅샷)
+        List<ChurchGroupHierarchy.Node> subGroups = groupHierarchy.children(parishGroupId);
+        if (subGroups.isEmpty()) {
+            return List.of();
+        }
+        List<Long> subGroupIds = groupHierarchy.childIds(parishGroupId);
 
         // 4. '모든 속'의 속장(Role 2) 목록을 '한 번의 쿼리'로 조회 (N+1 방지)
-        List<User> leaders = userRepository.findAllByGroupInAndRole(subGroups, 2);
+        List<User> leaders = userRepository.findAllByGroup_IdInAndRole(subGroupIds, 2);
         Map<Long, User> leaderMap = leaders.stream()
                 .collect(Collectors.toMap(leader -> leader.getGroup().getId(), leader -> leader));
 
         // 5. 💡 [핵심 로직]
-        //    '모든 속'을 순회하며, 각 속의 출결 데이터를 조회하고 DTO로 조립
+        //    '모든 속'의 요약 행을 출결 요약 테이블에서 '한 번의 쿼리'로 조회 (ATTENDANCE 스캔 없음)
+        Map<Long, AttendanceDailySummary> summaryMap = dailySummaryRepository
+                .findAllByGroupIdInAndDate(subGroupIds, date).stream()
+                .collect(Collectors.toMap(AttendanceDailySummary::getGroupId, summary -> summary));
+
         return subGroups.stream()
-                .map(group -> {
-                    // 💡 [로직 재활용]
-                    // 기존 'AttendanceService'의 로직을 그대로 재활용
-                    AttendanceDto.DayAttendanceResponse groupData = 
-                            attendanceService.getAttendance(group.getId(), date);
-                    
-                    User leader = leaderMap.get(group.getId());
-                    
-                    // 'SummaryResponse' DTO가 요약 정보를 자동 계산
-                    return new ParishDto.SummaryResponse(group, leader, groupData);
-                })
+                .map(group -> new ParishDto.SummaryResponse(
+                        group, leaderMap.get(group.id()), summaryMap.get(group.id())))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
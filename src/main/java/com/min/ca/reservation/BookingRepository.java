@@ -1,6 +1,5 @@
 package com.min.ca.reservation;
 
-import com.min.ca.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query; // 1. [신규] Query import
 import org.springframework.data.repository.query.Param; // 2. [신규] Param import
@@ -15,7 +14,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     /**
      * 1. 특정 날짜에 사용자가 몇 건 예약했는지 '개수'를 확인 (2개 제한용)
      */
-    int countByUserAndBookingDate(User user, LocalDate date);
+    int countByUser_IdAndBookingDate(Long userId, LocalDate date);
 
     /**
      * 2. [수정] 특정 장소/날짜 예약 현황 (시간표 로드용)
@@ -37,10 +36,10 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * 4. 'ReservationNew.js'의 배너 확인용
      * (특정 날짜에 사용자가 예약한 '목록' 조회)
      */
-    List<Booking> findAllByUserAndBookingDate(User user, LocalDate date);
+    List<Booking> findAllByUser_IdAndBookingDate(Long userId, LocalDate date);
 
     /**
      * 5. '내 예약 확인' 페이지용 (오늘 이후의 모든 예약을 날짜순, 시간순으로 정렬)
      */
-    List<Booking> findAllByUserAndBookingDateGreaterThanEqualOrderByBookingDateAscBookingTimeAsc(User user, LocalDate date);
+    List<Booking> findAllByUser_IdAndBookingDateGreaterThanEqualOrderByBookingDateAscBookingTimeAsc(Long userId, LocalDate date);
 }
\ No newline at end of file
@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,7 +38,7 @@ public class PlaceController {
     public ResponseEntity<List<PlaceDto.SlotResponse>> getPlaceTimeSlots(
             @PathVariable("id") Long placeId,
             @RequestParam("date") String date,
-            @AuthenticationPrincipal User user // 4. [신규] 현재 로그인한 유저
+            @AuthenticationPrincipal UserPrincipal user // 4. [신규] 현재 로그인한 유저
     ) {
         LocalDate bookingDate = LocalDate.parse(date);
         // 5. [수정] service에 user 전달
@@ -2,7 +2,7 @@ package com.min.ca.reservation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.min.ca.group.ChurchGroup; // 1. [신규] ChurchGroup import
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import lombok.Getter;
 
 public class PlaceDto {
@@ -48,7 +48,7 @@ public class PlaceDto {
         }
 
         // 2. [수정] 예약된 슬롯 (currentUser 파라미터 추가)
-        public SlotResponse(String time, Booking booking, User currentUser) {
+        public SlotResponse(String time, Booking booking, UserPrincipal currentUser) {
             this.time = time;
             this.reservedBy = booking.getUser().getName();
             this.reason = booking.getReason();
@@ -1,6 +1,6 @@
 package com.min.ca.reservation;
 
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,7 +42,7 @@ public class PlaceService {
      * Panel 2: 시간대별 예약 현황 조회 (3-Status)
      * (currentUser 파라미터 및 리포지토리 호출 수정)
      */
-    public List<PlaceDto.SlotResponse> getPlaceTimeSlots(Long placeId, LocalDate date, User currentUser) {
+    public List<PlaceDto.SlotResponse> getPlaceTimeSlots(Long placeId, LocalDate date, UserPrincipal currentUser) {
         
         ReservationPlace place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장소입니다."));
@@ -1,6 +1,6 @@
 package com.min.ca.reservation;
 
-import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,7 +24,7 @@ public class ReservationController {
      */
     @GetMapping("/my-bookings-on-date")
     public ResponseEntity<List<ReservationDto.MyBookingResponse>> getMyBookingsOnDate(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("date") String date) {
         
         LocalDate bookingDate = LocalDate.parse(date);
@@ -38,7 +38,7 @@ public class ReservationController {
      */
     @GetMapping("/my-bookings") // 👈 [수정] 경로 복수형
     public ResponseEntity<List<ReservationDto.MyBookingResponse>> getMyBookings( // 👈 [수정] List 반환
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
         return ResponseEntity.ok(reservationService.getMyBookings(user));
     }
 
@@ -47,7 +47,7 @@ public class ReservationController {
      */
     @PostMapping
     public ResponseEntity<Void> createBooking(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @Valid @RequestBody ReservationDto.CreateRequest request) {
         
         reservationService.createBooking(user, request);
@@ -59,7 +59,7 @@ public class ReservationController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> cancelBooking(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable("id") Long bookingId) {
         
         reservationService.cancelBooking(user, bookingId);
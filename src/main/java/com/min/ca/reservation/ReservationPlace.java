@@ -13,7 +13,10 @@ import lombok.NoArgsConstructor;
 public class ReservationPlace {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservation_place_id")
+    @TableGenerator(name = "reservation_place_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "reservation_place", allocationSize = 50)
     @Column(name = "place_id")
     private Long id;
 
@@ -8,7 +8,9 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.min.ca.user.User;
+import com.min.ca.group.ChurchGroupRepository;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,14 +20,16 @@ public class ReservationService {
 
     private final BookingRepository bookingRepository;
     private final ReservationPlaceRepository placeRepository;
+    private final UserRepository userRepository;
+    private final ChurchGroupRepository groupRepository;
 
     /**
      * 1. [신규] 'ReservationNew.js'의 배너(예약 개수) 확인용
      * (특정 날짜에 사용자가 예약한 '목록' 조회)
      */
     @Transactional(readOnly = true)
-    public List<ReservationDto.MyBookingResponse> getMyBookingsOnDate(User user, LocalDate date) {
-        List<Booking> bookings = bookingRepository.findAllByUserAndBookingDate(user, date);
+    public List<ReservationDto.MyBookingResponse> getMyBookingsOnDate(UserPrincipal user, LocalDate date) {
+        List<Booking> bookings = bookingRepository.findAllByUser_IdAndBookingDate(user.getId(), date);
         return bookings.stream()
                 .map(ReservationDto.MyBookingResponse::new)
                 .collect(Collectors.toList());
@@ -35,12 +39,12 @@ public class ReservationService {
      * 2. [수정] '내 예약 확인' 페이지용 (오늘 이후의 모든 예약 목록 조회)
      */
     @Transactional(readOnly = true)
-    public List<ReservationDto.MyBookingResponse> getMyBookings(User user) {
+    public List<ReservationDto.MyBookingResponse> getMyBookings(UserPrincipal user) {
         LocalDate today = LocalDate.now();
         
         // [수정] 정렬 기준에 TimeAsc (시간순) 추가
         List<Booking> bookings = bookingRepository
-            .findAllByUserAndBookingDateGreaterThanEqualOrderByBookingDateAscBookingTimeAsc(user, today);
+            .findAllByUser_IdAndBookingDateGreaterThanEqualOrderByBookingDateAscBookingTimeAsc(user.getId(), today);
         
         return bookings.stream()
                 .map(ReservationDto.MyBookingResponse::new)
@@ -51,14 +55,14 @@ public class ReservationService {
      * 3. [수정] 신규 예약 생성 (날짜 파라미터 및 2개 제한 로직 적용)
      */
     @Transactional
-    public void createBooking(User user, ReservationDto.CreateRequest request) {
+    public void createBooking(UserPrincipal user, ReservationDto.CreateRequest request) {
         // [수정] '오늘' 대신 DTO에서 '선택한 날짜'를 가져옴
         LocalDate bookingDate = LocalDate.parse(request.getDate());
 
         // 1. (요구사항) 속장(2), 예비속장(3)은 '하루 2개'만 예약 가능
         if (user.getRole() == 2 || user.getRole() == 3) {
             // [수정] 1개 -> 2개 제한 로직
-            int count = bookingRepository.countByUserAndBookingDate(user, bookingDate);
+            int count = bookingRepository.countByUser_IdAndBookingDate(user.getId(), bookingDate);
             if (count >= 2) { 
                 throw new AccessDeniedException("예약은 하루에 2시간까지만 가능합니다."); // 403
             }
@@ -72,10 +76,10 @@ public class ReservationService {
             throw new IllegalStateException("이미 예약된 시간입니다. 다른 시간을 선택해주세요."); // 409
         }
 
-        // 3. 예약 생성
+        // 3. 예약 생성 (getReferenceById는 SELECT 없이 프록시만 생성)
         Booking booking = Booking.builder()
-                .user(user)
-                .group(user.getGroup())
+                .user(userRepository.getReferenceById(user.getId()))
+                .group(groupRepository.getReferenceById(user.getGroupId()))
                 .place(place)
                 .bookingDate(bookingDate) // 👈 [수정] DTO에서 받은 날짜
                 .bookingTime(request.getTime())
@@ -89,7 +93,7 @@ public class ReservationService {
      * 4. [수정] '내 예약' 취소 (날짜 제한 로직 제거)
      */
     @Transactional
-    public void cancelBooking(User user, Long bookingId) {
+    public void cancelBooking(UserPrincipal user, Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
 
@@ -21,11 +21,15 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"password"})
 @Table(name = "USER")
+@EntityListeners(UserChangeListener.class) // 👈 변경 시 인증 캐시 무효화
 // UserDetails 인터페이스 구현 추가
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user", allocationSize = 50)
     private Long id; // User ID (PK)
 
     @Column(nullable = false, unique = true, length = 50)
@@ -51,6 +55,10 @@ public class User implements UserDetails {
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "group_id", nullable = false)
     private ChurchGroup group;
+
+    // 🔑 토큰 버전 (권한/소속/활성 상태가 바뀌면 +1 -> 이전에 발급된 토큰은 무효)
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
     
     @Builder
     public User(String username, String password, String name, int role, ChurchGroup group, boolean isYouth, boolean isActive) {
@@ -63,6 +71,29 @@ public class User implements UserDetails {
         this.isActive = isActive;
     }
 
+    // 토큰 claims 에 들어가는 값이 바뀌면 토큰 버전을 올림
+    public void setRole(int role) {
+        if (this.role != role) {
+            this.role = role;
+            this.tokenVersion++;
+        }
+    }
+
+    public void setGroup(ChurchGroup group) {
+        Long oldId = this.group != null ? this.group.getId() : null;
+        Long newId = group != null ? group.getId() : null;
+        if (oldId == null || !oldId.equals(newId)) {
+            this.group = group;
+            this.tokenVersion++;
+        }
+    }
+
+    public void setActive(boolean isActive) {
+        if (this.isActive != isActive) {
+            this.isActive = isActive;
+            this.tokenVersion++;
+        }
+    }
     
     // UserDetails 인터페이스 메서드 구현 시작
     
@@ -0,0 +1,30 @@
+package com.min.ca.user;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.min.ca.jwt.PrincipalCache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 변경 시 인증 캐시 무효화 (Spring 빈으로 등록된 JPA 엔티티 리스너)
+ * - 가입 승인(is_active), 거절(삭제), 권한 변경, 소속 이동이 모두 여기로 들어옵니다.
+ */
+@Component
+public class UserChangeListener {
+
+    private final PrincipalCache principalCache;
+
+    // 👈 리스너는 EntityManagerFactory 생성 중에 만들어지므로 @Lazy 로 순환 의존을 피함
+    public UserChangeListener(@Lazy PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        principalCache.evict(user.getId());
+    }
+}
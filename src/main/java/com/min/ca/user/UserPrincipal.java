@@ -0,0 +1,47 @@
+package com.min.ca.user;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import lombok.Getter;
+
+/**
+ * 토큰 claims 로 만든 가벼운 인증 사용자 (불변, DB 조회 없음)
+ * - @AuthenticationPrincipal 로 컨트롤러에 주입됩니다.
+ * - 엔티티 연관관계가 필요한 곳은 userRepository.getReferenceById(getId()) 로 프록시를 쓰고,
+ *   그 밖의 사용자 정보가 필요하면 명시적으로 조회합니다.
+ * - tokenVersion: 발급 시점의 USER.token_version (권한/소속/활성 상태가 바뀌면 올라가 기존 토큰이 무효화됨)
+ */
+@Getter
+public final class UserPrincipal {
+
+    private final Long id;
+    private final String username;
+    private final String name;
+    private final int role;        // 0: ADMIN, 1: 교구장, 2: 속장, 3: 예비속장, 4: 교역자
+    private final Long groupId;
+    private final Long parishId;   // 👈 상위 그룹(교구) ID - 최상위 그룹 소속이면 null
+    private final long tokenVersion;
+
+    public UserPrincipal(Long id, String username, String name, int role, Long groupId, Long parishId, long tokenVersion) {
+        this.id = id;
+        this.username = username;
+        this.name = name;
+        this.role = role;
+        this.groupId = groupId;
+        this.parishId = parishId;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String toString() {
+        return "UserPrincipal(id=" + id + ", username=" + username + ", role=" + role + ", groupId=" + groupId + ")";
+    }
+}
@@ -1,18 +1,42 @@
 package com.min.ca.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-
-import com.min.ca.group.ChurchGroup;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
-    List<User> findAllByGroupInAndRole(List<ChurchGroup> groups, int role);
+    List<User> findAllByGroup_IdInAndRole(Collection<Long> groupIds, int role);
     
     List<User> findAllByIsActiveFalseAndRole(int role);
     List<User> findAllByIsActiveFalseAndRoleAndGroup_Parent_Id(int role, Long parentId);
+
+    /**
+     * 🔑 토큰 검증용 - 현재 토큰 버전 + 활성 여부만 (그룹 JOIN 없음)
+     */
+    interface TokenState {
+        int getTokenVersion();
+        boolean isActive();
+    }
+
+    @Query("SELECT u.tokenVersion AS tokenVersion, u.isActive AS active FROM User u WHERE u.id = :id")
+    Optional<TokenState> findTokenState(@Param("id") Long id);
+
+    /**
+     * 🔑 로그인 시 재해시 저장 - 비밀번호 컬럼만, 읽어 둔 해시가 그대로일 때만 교체
+     * - 검증 도중 비밀번호가 바뀌었거나 다른 로그인이 먼저 교체했으면 0 (덮어쓰지 않음)
+     * - 로그인은 트랜잭션 없이 BCrypt 를 돌리므로 이 UPDATE 만 짧은 트랜잭션으로 실행
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :hash WHERE u.id = :id AND u.password = :old")
+    int updatePassword(@Param("id") Long id, @Param("old") String oldHash, @Param("hash") String newHash);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+-- V10: V5 에서 지운 중복 스냅샷의 달란트 되돌리기
+--  - 지운 스냅샷의 달란트는 이미 잔액(MEMBER.talent / 원장)에 반영되어 있으므로, 행마다 반대 부호의 ROLLBACK 원장 행을 추가합니다.
+--  - 지운 행은 V5 직전에 V5DuplicateSnapshotCallback 이 attendance_v5_removed 에 복사해 둡니다.
+--    (이미 V5 를 적용한 DB 에는 표가 없으므로 빈 표를 만들어 아무것도 하지 않음)
+
+CREATE TABLE IF NOT EXISTS attendance_v5_removed (
+    attendance_id   BIGINT NOT NULL,
+    member_id       BIGINT NOT NULL,
+    attendance_date DATE   NOT NULL,
+    talent          INT    NOT NULL,
+    PRIMARY KEY (attendance_id)
+) ENGINE = InnoDB;
+
+-- ID 는 V2 와 같은 규칙: 현재 풀 범위를 피해 시작하고, 끝나면 next_val 을 MAX + allocationSize + 1 로
+SET @ledger_base = GREATEST(
+    (SELECT COALESCE(MAX(ledger_id), 0) FROM talent_ledger),
+    (SELECT next_val FROM id_sequences WHERE sequence_name = 'talent_ledger') + 50);
+
+INSERT INTO talent_ledger (ledger_id, member_id, delta, reason, attendance_date, user_id, compaction_batch, created_at)
+SELECT @ledger_base + ROW_NUMBER() OVER (ORDER BY r.attendance_id),
+       r.member_id, -r.talent, 'ROLLBACK', r.attendance_date, NULL, NULL, NOW(6)
+FROM attendance_v5_removed r;
+
+UPDATE id_sequences
+SET next_val = (SELECT COALESCE(MAX(ledger_id), 0) + 51 FROM talent_ledger)
+WHERE sequence_name = 'talent_ledger';
+
+DROP TABLE attendance_v5_removed;
@@ -0,0 +1,9 @@
+-- V11: 연속 결석 읽기 모델에서 속(group_id) 제거
+--  - 장기 결석자 조회는 MEMBER 의 현재 속으로 하므로 streak 행의 group_id (마지막 출결 저장 시점) 는 읽히지 않습니다.
+--  - 대신 조회 경로 (교구 -> 속 -> 활성 회원 -> streak PK) 의 회원 단계를 인덱스 하나로 찾도록 합니다.
+
+ALTER TABLE member_absence_streak
+    DROP INDEX idx_absence_streak_group,
+    DROP COLUMN group_id;
+
+ALTER TABLE member ADD INDEX idx_member_group_active (group_id, is_active);
@@ -0,0 +1,99 @@
+-- V1: 기존 ddl-auto=update 로 만들어진 스키마 (기준선)
+-- 이미 운영 중인 DB 는 spring.flyway.baseline-on-migrate 로 이 버전에서 시작합니다.
+
+CREATE TABLE church_group (
+    group_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    group_name VARCHAR(50) NOT NULL,
+    parent_id  BIGINT,
+    PRIMARY KEY (group_id),
+    CONSTRAINT fk_church_group_parent FOREIGN KEY (parent_id) REFERENCES church_group (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE `user` (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    username  VARCHAR(50)  NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    name      VARCHAR(50)  NOT NULL,
+    role      INT          NOT NULL,
+    is_youth  BIT          NOT NULL,
+    is_active BIT          NOT NULL,
+    group_id  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT fk_user_group FOREIGN KEY (group_id) REFERENCES church_group (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member (
+    member_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name      VARCHAR(50)  NOT NULL,
+    contact   VARCHAR(100),
+    is_active BIT          NOT NULL,
+    talent    INT          NOT NULL,
+    user_id   BIGINT,
+    group_id  BIGINT,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_member_group FOREIGN KEY (group_id) REFERENCES church_group (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance (
+    attendance_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id       BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    group_id        BIGINT       NOT NULL,
+    attendance_date DATE         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    talent          INT          NOT NULL,
+    reason          VARCHAR(255),
+    note            VARCHAR(255),
+    PRIMARY KEY (attendance_id),
+    CONSTRAINT fk_attendance_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_attendance_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_attendance_group FOREIGN KEY (group_id) REFERENCES church_group (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notice (
+    notice_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255) NOT NULL,
+    content      TEXT         NOT NULL,
+    is_important BIT          NOT NULL,
+    created_date DATETIME(6)  NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    group_id     BIGINT       NOT NULL,
+    PRIMARY KEY (notice_id),
+    CONSTRAINT fk_notice_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_notice_group FOREIGN KEY (group_id) REFERENCES church_group (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notice_comment (
+    comment_id   BIGINT        NOT NULL AUTO_INCREMENT,
+    content      VARCHAR(1000) NOT NULL,
+    created_date DATETIME(6)   NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    notice_id    BIGINT        NOT NULL,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_notice_comment_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_notice_comment_notice FOREIGN KEY (notice_id) REFERENCES notice (notice_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reservation_place (
+    place_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    is_active   BIT          NOT NULL,
+    PRIMARY KEY (place_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE booking (
+    booking_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    group_id     BIGINT       NOT NULL,
+    place_id     BIGINT       NOT NULL,
+    booking_date DATE         NOT NULL,
+    booking_time VARCHAR(10)  NOT NULL,
+    reason       VARCHAR(500) NOT NULL,
+    PRIMARY KEY (booking_id),
+    CONSTRAINT fk_booking_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_booking_group FOREIGN KEY (group_id) REFERENCES church_group (group_id),
+    CONSTRAINT fk_booking_place FOREIGN KEY (place_id) REFERENCES reservation_place (place_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,18 @@
+-- V2: IDENTITY -> TABLE(pooled) ID 생성 전환
+-- IDENTITY 는 Hibernate JDBC INSERT 배치를 끄므로, 엔티티별 행을 가진 시퀀스 테이블로 옮깁니다.
+-- 기존 ID 와 겹치지 않도록 next_val 을 'MAX(id) + allocationSize(50) + 1' 로 초기화합니다.
+
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(50) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'church_group', COALESCE(MAX(group_id), 0) + 51 FROM church_group;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'user', COALESCE(MAX(id), 0) + 51 FROM `user`;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'member', COALESCE(MAX(member_id), 0) + 51 FROM member;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'attendance', COALESCE(MAX(attendance_id), 0) + 51 FROM attendance;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'notice', COALESCE(MAX(notice_id), 0) + 51 FROM notice;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'notice_comment', COALESCE(MAX(comment_id), 0) + 51 FROM notice_comment;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'reservation_place', COALESCE(MAX(place_id), 0) + 51 FROM reservation_place;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'booking', COALESCE(MAX(booking_id), 0) + 51 FROM booking;
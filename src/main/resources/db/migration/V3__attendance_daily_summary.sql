@@ -0,0 +1,19 @@
+-- V3: 속(group) + 날짜별 출결 요약 읽기 모델
+-- 출결 저장/삭제 시 같은 트랜잭션에서 갱신되며, --rebuild-attendance-summary 로 재생성할 수 있습니다.
+
+CREATE TABLE attendance_daily_summary (
+    group_id      BIGINT      NOT NULL,
+    summary_date  DATE        NOT NULL,
+    submitted     BIT         NOT NULL,
+    present_count INT         NOT NULL,
+    absent_count  INT         NOT NULL,
+    talent_total  INT         NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (group_id, summary_date)
+) ENGINE = InnoDB;
+
+INSERT INTO attendance_daily_summary
+    (group_id, summary_date, submitted, present_count, absent_count, talent_total, updated_at)
+SELECT group_id, attendance_date, 1, SUM(status = 'Present'), SUM(status <> 'Present'), SUM(talent), NOW(6)
+FROM attendance
+GROUP BY group_id, attendance_date;
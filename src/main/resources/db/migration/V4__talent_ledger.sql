@@ -0,0 +1,20 @@
+-- V4: 달란트 원장 (append-only)
+-- 기존 MEMBER.talent 는 '압축된 잔액'으로 그대로 사용합니다. (이력은 이 시점부터 쌓임)
+
+CREATE TABLE talent_ledger (
+    ledger_id        BIGINT      NOT NULL,
+    member_id        BIGINT      NOT NULL,
+    delta            INT         NOT NULL,
+    reason           VARCHAR(20) NOT NULL,
+    attendance_date  DATE,
+    user_id          BIGINT,
+    compaction_batch BIGINT,
+    created_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (ledger_id),
+    KEY idx_talent_ledger_member_batch (member_id, compaction_batch),
+    KEY idx_talent_ledger_batch (compaction_batch),
+    CONSTRAINT fk_talent_ledger_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_talent_ledger_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequences (sequence_name, next_val) VALUES ('talent_ledger', 1);
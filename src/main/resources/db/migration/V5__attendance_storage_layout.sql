@@ -0,0 +1,31 @@
+-- V5: ATTENDANCE 저장 구조 정리
+--  1) (member_id, attendance_date) 유니크 키 (회원별 이력 조회 인덱스 겸용)
+--  2) 출결판/요약 조회용 커버링 인덱스 (group_id, attendance_date, member_id, status, talent)
+--  3) status VARCHAR("Present"/"Absent") -> TINYINT(1/0), API 문자열은 JPA 컨버터가 유지
+
+-- 1. 유니크 키 추가 전 중복 스냅샷 제거 (같은 회원/날짜면 가장 최근 행만 남김)
+DELETE a1 FROM attendance a1
+JOIN attendance a2
+  ON a1.member_id = a2.member_id
+ AND a1.attendance_date = a2.attendance_date
+ AND a1.attendance_id < a2.attendance_id;
+
+-- 2. status 를 TINYINT 코드로 변환
+ALTER TABLE attendance ADD COLUMN status_code TINYINT NOT NULL DEFAULT 0 AFTER attendance_date;
+UPDATE attendance SET status_code = IF(status = 'Present', 1, 0);
+ALTER TABLE attendance DROP COLUMN status;
+ALTER TABLE attendance RENAME COLUMN status_code TO status;
+ALTER TABLE attendance ALTER COLUMN status DROP DEFAULT;
+
+-- 3. 인덱스
+ALTER TABLE attendance
+    ADD CONSTRAINT uk_attendance_member_date UNIQUE (member_id, attendance_date),
+    ADD INDEX idx_attendance_group_date (group_id, attendance_date, member_id, status, talent);
+
+-- 4. 중복 제거가 반영되도록 출결 요약 테이블 재생성
+DELETE FROM attendance_daily_summary;
+INSERT INTO attendance_daily_summary
+    (group_id, summary_date, submitted, present_count, absent_count, talent_total, updated_at)
+SELECT group_id, attendance_date, 1, SUM(status = 1), SUM(status <> 1), SUM(talent), NOW(6)
+FROM attendance
+GROUP BY group_id, attendance_date;
@@ -0,0 +1,29 @@
+-- V6: 회원별 연속 결석 읽기 모델
+--  - absence_streak : 마지막 출석 이후 기록된 결석 횟수 (주 1회 예배 기준 = 연속 결석 주수)
+--  - 출결 저장/삭제 시 해당 회원들만 같은 트랜잭션에서 다시 계산되며, --rebuild-absence-streaks 로 재생성할 수 있습니다.
+
+CREATE TABLE member_absence_streak (
+    member_id            BIGINT      NOT NULL,
+    group_id             BIGINT,
+    absence_streak       INT         NOT NULL,
+    last_present_date    DATE,
+    last_attendance_date DATE,
+    updated_at           DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id),
+    INDEX idx_absence_streak_group (group_id, absence_streak)
+) ENGINE = InnoDB;
+
+-- 회원별 '마지막 출석일' 을 인덱스 한 번으로 찾기 위한 인덱스
+ALTER TABLE attendance ADD INDEX idx_attendance_member_status_date (member_id, status, attendance_date);
+
+INSERT INTO member_absence_streak
+    (member_id, group_id, absence_streak, last_present_date, last_attendance_date, updated_at)
+SELECT t.member_id, t.group_id,
+       (SELECT COUNT(*) FROM attendance a
+         WHERE a.member_id = t.member_id
+           AND (t.last_present IS NULL OR a.attendance_date > t.last_present)),
+       t.last_present, t.last_attendance, NOW(6)
+FROM (SELECT m.member_id, m.group_id,
+             (SELECT MAX(p.attendance_date) FROM attendance p WHERE p.member_id = m.member_id AND p.status = 1) AS last_present,
+             (SELECT MAX(r.attendance_date) FROM attendance r WHERE r.member_id = m.member_id) AS last_attendance
+      FROM member m) t;
@@ -0,0 +1,24 @@
+-- V7: 출결판 증분 동기화
+--  1) attendance.version : 그 행을 마지막으로 바꾼 '출결판 버전'
+--  2) attendance_board_version : (group, date) 별 버전 카운터 (reset_version 이하를 가진 클라이언트는 전체 재조회)
+--  3) attendance_sync_request : 재전송된 PATCH 를 무시하기 위한 멱등 키
+
+ALTER TABLE attendance ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE attendance_board_version (
+    group_id      BIGINT NOT NULL,
+    board_date    DATE   NOT NULL,
+    version       BIGINT NOT NULL,
+    reset_version BIGINT NOT NULL,
+    PRIMARY KEY (group_id, board_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance_sync_request (
+    user_id         BIGINT      NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    group_id        BIGINT      NOT NULL,
+    board_date      DATE        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key),
+    INDEX idx_sync_request_created (created_at)
+) ENGINE = InnoDB;
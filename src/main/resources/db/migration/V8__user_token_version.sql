@@ -0,0 +1,4 @@
+-- V8: 토큰 버전
+--  토큰에는 권한/소속이 claims 로 들어가므로, 이 값들이 바뀌면 token_version 을 올려 이전 토큰을 무효화합니다.
+
+ALTER TABLE `user` ADD COLUMN token_version INT NOT NULL DEFAULT 0;
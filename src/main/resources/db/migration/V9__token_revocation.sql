@@ -0,0 +1,20 @@
+-- V9: 토큰 폐기 목록
+--  1) revoked_token : 토큰 단위 폐기 (로그아웃, 탈취된 토큰) - 토큰 만료 시각이 지나면 삭제
+--  2) user_token_revocation : 사용자 단위 폐기 - revoked_before 이전에 발급된 그 사용자의 모든 토큰을 거부
+--     (expires_at = revoked_before + 토큰 유효 기간, 이후로는 그 이전 토큰이 모두 만료되어 삭제 가능)
+
+CREATE TABLE revoked_token (
+    jti        VARCHAR(36) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (jti),
+    INDEX idx_revoked_token_expires (expires_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_token_revocation (
+    user_id        BIGINT      NOT NULL,
+    revoked_before DATETIME(6) NOT NULL,
+    expires_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    INDEX idx_user_token_revocation_expires (expires_at)
+) ENGINE = InnoDB;
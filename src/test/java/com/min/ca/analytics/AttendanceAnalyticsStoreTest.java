@@ -0,0 +1,203 @@
+package com.min.ca.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+
+class AttendanceAnalyticsStoreTest {
+
+    private static final LocalDate WEEK1 = LocalDate.of(2025, 1, 5);
+    private static final LocalDate WEEK2 = LocalDate.of(2025, 1, 12);
+    private static final LocalDate WEEK3 = LocalDate.of(2025, 1, 19);
+    private static final LocalDate WEEK4 = LocalDate.of(2025, 1, 26);
+
+    private ChurchGroupHierarchy groupHierarchy;
+    private AttendanceAnalyticsStore store;
+    private List<Row> rows; // 👈 ATTENDANCE 테이블 대신 (증분 반영 시 다시 읽는 원본)
+
+    private record Row(long memberId, long groupId, LocalDate date, boolean present) {
+    }
+
+    /**
+     * 속 10: 회원 1 (출석, 출석, 결석, 결석 / 달란트 5), 회원 2 (결석, 출석, 출석, 결석 / 달란트 9)
+     * 속 20: 회원 3 (비활성, 모두 결석 / 달란트 20)
+     */
+    @BeforeEach
+    void setUp() {
+        AnalyticsLoadRepository loadRepository = mock(AnalyticsLoadRepository.class);
+        doAnswer(invocation -> {
+            AnalyticsLoadRepository.MemberRowHandler handler = invocation.getArgument(0);
+            handler.handle(1L, "회원1", 10L, true, 5);
+            handler.handle(2L, "회원2", 10L, true, 9);
+            handler.handle(3L, "회원3", 20L, false, 20);
+            return null;
+        }).when(loadRepository).streamMembers(any());
+        rows = new ArrayList<>();
+        boolean[][] weeks = {
+                { true, true, false, false },
+                { false, true, true, false },
+                { false, false, false, false } };
+        LocalDate[] dates = { WEEK1, WEEK2, WEEK3, WEEK4 };
+        for (int member = 0; member < weeks.length; member++) {
+            for (int week = 0; week < dates.length; week++) {
+                rows.add(new Row(member + 1, member < 2 ? 10L : 20L, dates[week], weeks[member][week]));
+            }
+        }
+        doAnswer(invocation -> {
+            AnalyticsLoadRepository.AttendanceRowHandler handler = invocation.getArgument(0);
+            for (Row row : rows) {
+                handler.handle(row.memberId(), row.groupId(), row.date(), row.present());
+            }
+            return null;
+        }).when(loadRepository).streamAttendance(any());
+        doAnswer(invocation -> {
+            Collection<Long> memberIds = invocation.getArgument(0);
+            LocalDate from = invocation.getArgument(1);
+            LocalDate to = invocation.getArgument(2);
+            AnalyticsLoadRepository.AttendanceRowHandler handler = invocation.getArgument(3);
+            for (Row row : rows) {
+                if (memberIds.contains(row.memberId()) && !row.date().isBefore(from) && !row.date().isAfter(to)) {
+                    handler.handle(row.memberId(), row.groupId(), row.date(), row.present());
+                }
+            }
+            return null;
+        }).when(loadRepository).streamAttendance(anyCollection(), any(), any(), any());
+
+        groupHierarchy = mock(ChurchGroupHierarchy.class);
+        store = new AttendanceAnalyticsStore(loadRepository, groupHierarchy);
+        store.load();
+    }
+
+    @Test
+    @DisplayName("주 번호는 기준일(2000-01-02)부터 7일 단위이고, 같은 주의 날짜는 같은 번호다")
+    void weekOfCountsFromEpoch() {
+        assertThat(AttendanceAnalyticsStore.weekOf(AttendanceAnalyticsStore.EPOCH)).isZero();
+        assertThat(AttendanceAnalyticsStore.weekOf(WEEK1)).isEqualTo(AttendanceAnalyticsStore.weekOf(WEEK1.plusDays(6)));
+        assertThat(AttendanceAnalyticsStore.weekOf(WEEK2) - AttendanceAnalyticsStore.weekOf(WEEK1)).isEqualTo(1);
+        assertThat(AttendanceAnalyticsStore.weekOf(AttendanceAnalyticsStore.EPOCH.minusDays(1))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("출석률은 범위 안의 기록된 주 대비 출석한 주로 계산한다")
+    void rateCountsRecordedAndPresentWeeks() {
+        AnalyticsDto.RateResponse group = store.rate(AnalyticsDto.Scope.GROUP, 10L, WEEK1, WEEK4);
+        assertThat(group.memberCount()).isEqualTo(2);
+        assertThat(group.recordedWeeks()).isEqualTo(8);
+        assertThat(group.presentWeeks()).isEqualTo(4);
+
+        AnalyticsDto.RateResponse lastTwoWeeks = store.rate(AnalyticsDto.Scope.GROUP, 10L, WEEK3, WEEK4);
+        assertThat(lastTwoWeeks.recordedWeeks()).isEqualTo(4);
+        assertThat(lastTwoWeeks.presentWeeks()).isEqualTo(1);
+
+        when(groupHierarchy.isDescendantOf(10L, 100L)).thenReturn(true);
+        assertThat(store.rate(AnalyticsDto.Scope.PARISH, 100L, WEEK1, WEEK4).memberCount()).isEqualTo(2);
+        assertThat(store.rate(AnalyticsDto.Scope.CHURCH, null, WEEK1, WEEK4).memberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연속 결석은 마지막 기록 주부터 출석한 주 전까지 세고, 비활성 회원은 제외한다")
+    void absenceStreaksSkipInactiveMembers() {
+        List<AnalyticsDto.StreakResponse> streaks = store.absenceStreaks(AnalyticsDto.Scope.CHURCH, null, 1);
+
+        assertThat(streaks).extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(1L, 2L);
+        assertThat(streaks).extracting(AnalyticsDto.StreakResponse::absentWeeks).containsExactly(2, 1);
+        assertThat(store.absenceStreaks(AnalyticsDto.Scope.GROUP, 10L, 2))
+                .extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("출결 저장/삭제는 출석 비트와 달란트에 증분 반영된다")
+    void recordAndRemoveBoardAreIncremental() {
+        LocalDate week5 = WEEK4.plusWeeks(1);
+
+        save(10L, week5, 1L, true);
+        store.recordBoard(10L, week5, Map.of(1L, true), Map.of(1L, 10)); // 👈 트랜잭션 밖이면 바로 반영
+        assertThat(store.absenceStreaks(AnalyticsDto.Scope.GROUP, 10L, 1))
+                .extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(2L);
+        assertThat(store.leaderboard(AnalyticsDto.Scope.CHURCH, null, 1))
+                .extracting(AnalyticsDto.LeaderResponse::memberId).containsExactly(1L);
+
+        rows.removeIf(row -> row.date().equals(week5));
+        store.removeBoard(week5, List.of(1L), Map.of(1L, -10));
+        assertThat(store.absenceStreaks(AnalyticsDto.Scope.GROUP, 10L, 2))
+                .extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(1L);
+        assertThat(store.leaderboard(AnalyticsDto.Scope.CHURCH, null, 1))
+                .extracting(AnalyticsDto.LeaderResponse::memberId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 주의 두 번째 예배 기록은 첫 기록을 덮지 않고, 한 날짜를 지워도 그 주의 다른 날짜는 남는다")
+    void sameWeekDatesAreKeptApart() {
+        LocalDate wednesday = WEEK4.plusDays(3); // 👈 회원 1 은 WEEK4(주일)에 결석
+
+        save(10L, wednesday, 1L, true);
+        store.recordBoard(10L, wednesday, Map.of(1L, true), Map.of());
+        assertThat(store.rate(AnalyticsDto.Scope.GROUP, 10L, WEEK4, WEEK4).presentWeeks()).isEqualTo(1);
+
+        // 🔑 주일 출결을 다시 저장(결석 유지)해도 수요일 출석이 남음
+        store.recordBoard(10L, WEEK4, Map.of(1L, false), Map.of());
+        assertThat(store.rate(AnalyticsDto.Scope.GROUP, 10L, WEEK4, WEEK4).presentWeeks()).isEqualTo(1);
+        assertThat(store.absenceStreaks(AnalyticsDto.Scope.GROUP, 10L, 1))
+                .extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(2L);
+
+        // 🔑 수요일만 삭제하면 그 주는 '기록된 주(결석)'로 남음
+        rows.removeIf(row -> row.date().equals(wednesday));
+        store.removeBoard(wednesday, List.of(1L), Map.of());
+        AnalyticsDto.RateResponse week4 = store.rate(AnalyticsDto.Scope.GROUP, 10L, WEEK4, WEEK4);
+        assertThat(week4.recordedWeeks()).isEqualTo(2);
+        assertThat(week4.presentWeeks()).isZero();
+        assertThat(store.absenceStreaks(AnalyticsDto.Scope.GROUP, 10L, 2))
+                .extracting(AnalyticsDto.StreakResponse::memberId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("달란트 순위는 활성 회원만, 많은 순으로 limit 명까지")
+    void leaderboardRanksActiveMembers() {
+        List<AnalyticsDto.LeaderResponse> leaders = store.leaderboard(AnalyticsDto.Scope.CHURCH, null, 10);
+
+        assertThat(leaders).extracting(AnalyticsDto.LeaderResponse::memberId).containsExactly(2L, 1L);
+        assertThat(leaders).extracting(AnalyticsDto.LeaderResponse::rank).containsExactly(1, 2);
+
+        store.deactivate(2L);
+        assertThat(store.leaderboard(AnalyticsDto.Scope.CHURCH, null, 10))
+                .extracting(AnalyticsDto.LeaderResponse::memberId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("정착률: 첫 기록 주가 범위 안인 새 회원 중 weeks 주 안에 출석한 비율")
+    void retentionCountsNewcomers() {
+        LocalDate march = LocalDate.of(2025, 3, 2);
+        store.upsertMember(4L, "새신자", 10L);
+        save(10L, march, 4L, false);
+        store.recordBoard(10L, march, Map.of(4L, false), Map.of());
+        save(10L, march.plusWeeks(1), 4L, true);
+        store.recordBoard(10L, march.plusWeeks(1), Map.of(4L, true), Map.of());
+
+        AnalyticsDto.RetentionResponse retention = store.retention(AnalyticsDto.Scope.GROUP, 10L,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 4);
+
+        assertThat(retention.newcomers()).isEqualTo(1); // 👈 회원 1, 2 는 첫 기록이 1월
+        assertThat(retention.retained()).isEqualTo(1);
+    }
+
+    // 👈 커밋된 출결 (같은 회원/날짜면 교체)
+    private void save(long groupId, LocalDate date, long memberId, boolean present) {
+        rows.removeIf(row -> row.memberId() == memberId && row.date().equals(date));
+        rows.add(new Row(memberId, groupId, date, present));
+    }
+}
@@ -0,0 +1,134 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AttendanceBoardCacheTest {
+
+    private static final Long GROUP_ID = 10L;
+
+    private AttendanceBoardCache cache;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AttendanceBoardCache(2);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("조회 도중 같은 그룹이 바뀌었으면 오래된 출결판을 캐시에 넣지 않는다")
+    void rejectsStalePut() {
+        long stamp = cache.stamp(GROUP_ID);
+        cache.evict(GROUP_ID, today); // 👈 DB 조회와 저장이 겹친 상황 (stamp 증가)
+        cache.put(GROUP_ID, today, stamp, board(row(1L, 5)));
+
+        assertThat(cache.get(GROUP_ID, today)).isNull();
+
+        cache.put(GROUP_ID, today, cache.stamp(GROUP_ID), board(row(1L, 5)));
+        assertThat(cache.get(GROUP_ID, today)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 출결판부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        cache.put(10L, today, 0L, board(row(1L, 0)));
+        cache.put(20L, today, 0L, board(row(2L, 0)));
+        cache.get(10L, today); // 👈 10 을 최근 사용으로
+        cache.put(30L, today, 0L, board(row(3L, 0)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(10L, today)).isNotNull();
+        assertThat(cache.get(20L, today)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장 반영은 복사본에 적용하고 누적 달란트에 조정값을 더한다 (이전 응답 객체는 그대로)")
+    void applySaveReplacesWithUpdatedCopy() {
+        AttendanceDto.DayAttendanceResponse original = board(row(1L, 5), row(2L, 7));
+        cache.put(GROUP_ID, today, 0L, original);
+
+        cache.applySave(GROUP_ID, today, List.of(record(1L, "Present", 3)), Map.of(1L, 3));
+
+        AttendanceDto.DayAttendanceResponse updated = cache.get(GROUP_ID, today);
+        assertThat(updated).isNotSameAs(original);
+        assertThat(updated.isSnapshotLoaded()).isTrue();
+        assertThat(updated.getRecords().get(0).getAttendance()).isEqualTo("Present");
+        assertThat(updated.getRecords().get(0).getTalent()).isEqualTo(3);
+        assertThat(updated.getRecords().get(0).getTotalTalent()).isEqualTo(8);
+        assertThat(updated.getRecords().get(1).getTotalTalent()).isEqualTo(7);
+
+        assertThat(original.isSnapshotLoaded()).isFalse();
+        assertThat(original.getRecords().get(0).getAttendance()).isEqualTo("Absent");
+        assertThat(original.getRecords().get(0).getTotalTalent()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("캐시된 명단에 없는 회원이 저장되면 항목을 제거한다")
+    void applySaveWithUnknownMemberEvicts() {
+        cache.put(GROUP_ID, today, 0L, board(row(1L, 5)));
+
+        cache.applySave(GROUP_ID, today, List.of(record(99L, "Present", 1)), Map.of(99L, 1));
+
+        assertThat(cache.get(GROUP_ID, today)).isNull();
+    }
+
+    @Test
+    @DisplayName("회원 추가/수정/비활성화는 오늘 출결판에 반영된다")
+    void memberChangesUpdateTodayBoard() {
+        cache.put(GROUP_ID, today, 0L, board(row(1L, 5), row(3L, 0)));
+
+        cache.memberAdded(GROUP_ID, 2L, "새신자");
+        assertThat(cache.get(GROUP_ID, today).getRecords())
+                .extracting(AttendanceDto.LoadResponse::getId).containsExactly(1L, 2L, 3L);
+
+        cache.memberUpdated(GROUP_ID, 1L, "이름변경", 12);
+        AttendanceDto.LoadResponse renamed = cache.get(GROUP_ID, today).getRecords().get(0);
+        assertThat(renamed.getName()).isEqualTo("이름변경");
+        assertThat(renamed.getTotalTalent()).isEqualTo(12);
+
+        cache.memberRemoved(GROUP_ID, 3L);
+        assertThat(cache.get(GROUP_ID, today).getRecords())
+                .extracting(AttendanceDto.LoadResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("워밍업은 지정 날짜 외의 항목을 비운다")
+    void retainOnlyDropsOtherDates() {
+        LocalDate lastWeek = today.minusWeeks(1);
+        cache.put(10L, lastWeek, 0L, board(row(1L, 0)));
+        cache.put(20L, today, 0L, board(row(2L, 0)));
+
+        cache.retainOnly(today);
+
+        assertThat(cache.get(10L, lastWeek)).isNull();
+        assertThat(cache.get(20L, today)).isNotNull();
+    }
+
+    private static AttendanceDto.DayAttendanceResponse board(AttendanceDto.LoadResponse... rows) {
+        AttendanceDto.DayAttendanceResponse board = new AttendanceDto.DayAttendanceResponse();
+        board.setRecords(new ArrayList<>(List.of(rows)));
+        return board;
+    }
+
+    private static AttendanceDto.LoadResponse row(Long memberId, int totalTalent) {
+        return new AttendanceDto.LoadResponse(
+                new AttendanceDto.BoardRow(memberId, "회원" + memberId, totalTalent, true, null, null, null, null));
+    }
+
+    private static AttendanceDto.AttendanceRecordDto record(Long memberId, String status, int talent) {
+        AttendanceDto.AttendanceRecordDto record = new AttendanceDto.AttendanceRecordDto();
+        record.setMemberId(memberId);
+        record.setStatus(status);
+        record.setTalent(talent);
+        return record;
+    }
+}
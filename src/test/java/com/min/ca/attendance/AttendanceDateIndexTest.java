@@ -0,0 +1,94 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AttendanceDateIndexTest {
+
+    private AttendanceDailySummaryRepository dailySummaryRepository;
+    private AttendanceDateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dailySummaryRepository = mock(AttendanceDailySummaryRepository.class);
+        index = new AttendanceDateIndex(dailySummaryRepository);
+    }
+
+    @Test
+    @DisplayName("기동 시 요약 테이블에서 속별 저장 날짜를 적재한다")
+    void loadsSubmittedDates() {
+        List<AttendanceDailySummary> summaries = List.of(
+                summary(10L, LocalDate.of(2024, 12, 29)),
+                summary(10L, LocalDate.of(2025, 1, 5)),
+                summary(20L, LocalDate.of(2025, 1, 12)));
+        when(dailySummaryRepository.findAllBySubmittedTrue()).thenReturn(summaries);
+
+        index.load();
+
+        assertThat(index.getDates(List.of(10L), null, null))
+                .containsExactly(LocalDate.of(2024, 12, 29), LocalDate.of(2025, 1, 5));
+        assertThat(index.getDates(List.of(20L), null, null)).containsExactly(LocalDate.of(2025, 1, 12));
+    }
+
+    @Test
+    @DisplayName("연/월 범위와 여러 속의 합집합을 오름차순으로 반환한다")
+    void filtersByYearAndMonthAcrossGroups() {
+        index.markSaved(10L, LocalDate.of(2024, 2, 29)); // 윤년 마지막 날
+        index.markSaved(10L, LocalDate.of(2024, 12, 31)); // dayOfYear 366
+        index.markSaved(20L, LocalDate.of(2024, 2, 4));
+        index.markSaved(20L, LocalDate.of(2024, 3, 1));
+        index.markSaved(20L, LocalDate.of(2025, 1, 1));
+
+        assertThat(index.getDates(List.of(10L, 20L), 2024, 2))
+                .containsExactly(LocalDate.of(2024, 2, 4), LocalDate.of(2024, 2, 29));
+        assertThat(index.getDates(List.of(10L, 20L), 2024, null))
+                .containsExactly(LocalDate.of(2024, 2, 4), LocalDate.of(2024, 2, 29),
+                        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 12, 31));
+        assertThat(index.getDates(List.of(10L, 20L), null, null)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("삭제된 날짜는 목록에서 빠진다")
+    void removesDeletedDates() {
+        index.markSaved(10L, LocalDate.of(2025, 1, 5));
+        index.markSaved(10L, LocalDate.of(2025, 1, 12));
+
+        index.markDeleted(10L, LocalDate.of(2025, 1, 5));
+        index.markDeleted(30L, LocalDate.of(2025, 1, 5)); // 👈 없는 속은 무시
+
+        assertThat(index.getDates(List.of(10L), 2025, 1)).containsExactly(LocalDate.of(2025, 1, 12));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 반영된다")
+    void appliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.markSaved(10L, LocalDate.of(2025, 1, 5));
+            assertThat(index.getDates(List.of(10L), null, null)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.getDates(List.of(10L), null, null)).containsExactly(LocalDate.of(2025, 1, 5));
+    }
+
+    private AttendanceDailySummary summary(Long groupId, LocalDate date) {
+        AttendanceDailySummary summary = mock(AttendanceDailySummary.class);
+        when(summary.getGroupId()).thenReturn(groupId);
+        when(summary.getDate()).thenReturn(date);
+        return summary;
+    }
+}
@@ -0,0 +1,71 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class AttendanceExportServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 5);
+
+    @Test
+    @DisplayName("=, +, -, @ 로 시작하는 칸은 작은따옴표를 붙이고, 쉼표/따옴표가 있으면 큰따옴표로 감싼다")
+    void neutralizesFormulaCells() throws Exception {
+        AttendanceExportRepository exportRepository = mock(AttendanceExportRepository.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(3);
+            handler.processRow(row("1속", "=HYPERLINK(\"http://x\")", "+1", "@SUM(A1)"));
+            handler.processRow(row("-2속", "김철수", "감기, 몸살", ""));
+            return null;
+        }).when(exportRepository).streamRows(anyCollection(), any(), any(), any());
+
+        String csv = export(new AttendanceExportService(exportRepository));
+
+        assertThat(csv.split("\r\n")).containsExactly(
+                "\uFEFF날짜,속,이름,출결,달란트,사유,비고",
+                "2025-01-05,1속,\"'=HYPERLINK(\"\"http://x\"\")\",Present,-1,'+1,'@SUM(A1)", // 👈 달란트(숫자)는 그대로
+                "2025-01-05,'-2속,김철수,Present,-1,\"감기, 몸살\",");
+    }
+
+    @Test
+    @DisplayName("평범한 값, 빈 값, null 은 그대로 (null 은 빈 칸)")
+    void leavesPlainValues() {
+        assertThat(AttendanceExportService.escape("김철수")).isEqualTo("김철수");
+        assertThat(AttendanceExportService.escape("")).isEmpty();
+        assertThat(AttendanceExportService.escape(null)).isEmpty();
+        assertThat(AttendanceExportService.escape("1+1")).isEqualTo("1+1");
+    }
+
+    private static String export(AttendanceExportService service) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeCsv(List.of(10L), DATE, DATE, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ResultSet row(String group, String name, String reason, String note) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getDate(1)).thenReturn(Date.valueOf(DATE));
+        when(rs.getString(2)).thenReturn(group);
+        when(rs.getString(3)).thenReturn(name);
+        when(rs.getInt(4)).thenReturn(AttendanceStatus.PRESENT.getCode());
+        when(rs.getInt(5)).thenReturn(-1);
+        when(rs.getString(6)).thenReturn(reason);
+        when(rs.getString(7)).thenReturn(note);
+        return rs;
+    }
+}
@@ -0,0 +1,184 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.member.MemberRepository;
+
+class AttendanceImportServiceTest {
+
+    private static final Long PARISH_ID = 1L;
+    private static final Long GROUP_ID = 10L;
+    private static final Long USER_ID = 7L;
+    private static final String HEADER = "날짜,속,이름,출결,달란트,사유,비고\n";
+
+    private ChurchGroupHierarchy groupHierarchy;
+    private MemberRepository memberRepository;
+    private AttendanceImportWriter importWriter;
+    private List<AttendanceImportWriter.Row> written;
+
+    @BeforeEach
+    void setUp() {
+        groupHierarchy = mock(ChurchGroupHierarchy.class);
+        memberRepository = mock(MemberRepository.class);
+        importWriter = mock(AttendanceImportWriter.class);
+        written = new ArrayList<>();
+
+        ChurchGroupHierarchy.Node group = new ChurchGroupHierarchy.Node(GROUP_ID, "1속", PARISH_ID, 1, List.of(), List.of(PARISH_ID, GROUP_ID));
+        when(groupHierarchy.find(PARISH_ID)).thenReturn(
+                new ChurchGroupHierarchy.Node(PARISH_ID, "1교구", null, 0, List.of(GROUP_ID), List.of(PARISH_ID)));
+        when(groupHierarchy.children(PARISH_ID)).thenReturn(List.of(group));
+        when(memberRepository.findNameKeys(anyCollection())).thenReturn(List.of(
+                nameKey(100L, "김철수"), nameKey(101L, "이영희"), nameKey(102L, "박민수"), nameKey(103L, "박민수")));
+
+        when(importWriter.writeChunk(anyList(), eq(USER_ID))).thenAnswer(this::write);
+    }
+
+    @Test
+    @DisplayName("BOM/헤더를 건너뛰고, 따옴표 안의 쉼표·줄바꿈·이중 따옴표를 한 필드로 읽는다")
+    void parsesQuotedFields() throws IOException {
+        String csv = "\uFEFF" + HEADER
+                + "2025-01-05,1속,김철수,Present,3,,\"첫 줄, 둘째\n줄 \"\"인용\"\"\"\n"
+                + "2025-01-05,1속,이영희,Absent,,감기,\n";
+
+        AttendanceDto.ImportReport report = service(1000).importCsv(stream(csv), PARISH_ID, USER_ID, 1);
+
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(report.getTotalLines()).isEqualTo(2);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(written).extracting(AttendanceImportWriter.Row::memberId).containsExactly(100L, 101L);
+        assertThat(written.get(0).note()).isEqualTo("첫 줄, 둘째\n줄 \"인용\"");
+        assertThat(written.get(0).talent()).isEqualTo(3);
+        assertThat(written.get(1).lineNumber()).isEqualTo(4); // 👈 레코드가 시작된 물리 줄 번호
+        assertThat(written.get(1).reason()).isEqualTo("감기");
+    }
+
+    @Test
+    @DisplayName("내보내기가 수식 방지로 붙인 작은따옴표는 떼고 가져온다")
+    void stripsFormulaGuard() throws IOException {
+        String csv = HEADER
+                + "2025-01-05,1속,김철수,Present,,'=1+1,\"'@메모, 확인\"\n"
+                + "2025-01-05,1속,이영희,Present,,'사유,''\n";
+
+        service(1000).importCsv(stream(csv), PARISH_ID, USER_ID, 1);
+
+        assertThat(written.get(0).reason()).isEqualTo("=1+1");
+        assertThat(written.get(0).note()).isEqualTo("@메모, 확인");
+        assertThat(written.get(1).reason()).isEqualTo("'사유"); // 👈 수식 문자가 뒤따르지 않으면 그대로
+        assertThat(written.get(1).note()).isEqualTo("''");
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 사유와 함께 거부하고 나머지는 가져온다")
+    void rejectsInvalidLines() throws IOException {
+        String future = LocalDate.now().plusDays(1).toString();
+        String csv = HEADER
+                + "2025-01-05,1속,김철수\n"
+                + "2025/01/05,1속,김철수,Present\n"
+                + future + ",1속,김철수,Present\n"
+                + "2025-01-05,9속,김철수,Present\n"
+                + "2025-01-05,1속,홍길동,Present\n"
+                + "2025-01-05,1속,박민수,Present\n"
+                + "2025-01-05,1속,김철수,Late\n"
+                + "2025-01-05,1속,김철수,Present,many\n"
+                + "2025-01-05,1속,이영희,Present,1\n";
+
+        AttendanceDto.ImportReport report = service(1000).importCsv(stream(csv), PARISH_ID, USER_ID, 1);
+
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(report.getRejectedCount()).isEqualTo(8);
+        assertThat(report.getRejected()).extracting(AttendanceDto.Rejection::lineNumber)
+                .containsExactly(2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(report.getRejected().get(5).reason()).startsWith("동명이인");
+        assertThat(written).extracting(AttendanceImportWriter.Row::memberId).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 그 청크의 첫 줄 번호를 돌려주고, 그 줄부터 다시 가져올 수 있다")
+    void resumesFromFailedChunk() throws IOException {
+        String csv = HEADER
+                + "2025-01-05,1속,김철수,Present\n"
+                + "2025-01-05,1속,이영희,Present\n"
+                + "2025-01-12,1속,김철수,Absent\n"
+                + "2025-01-12,1속,이영희,Absent\n";
+        when(importWriter.writeChunk(anyList(), eq(USER_ID)))
+                .thenAnswer(this::write)
+                .thenThrow(new IllegalStateException("deadlock"))
+                .thenAnswer(this::write);
+
+        AttendanceDto.ImportReport failed = service(2).importCsv(stream(csv), PARISH_ID, USER_ID, 1);
+
+        assertThat(failed.isCompleted()).isFalse();
+        assertThat(failed.getImported()).isEqualTo(2);
+        assertThat(failed.getResumeFromLine()).isEqualTo(4);
+        assertThat(failed.getError()).isEqualTo("deadlock");
+
+        written.clear();
+        AttendanceDto.ImportReport resumed = service(2).importCsv(stream(csv), PARISH_ID, USER_ID, failed.getResumeFromLine());
+
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getTotalLines()).isEqualTo(2);
+        assertThat(written).extracting(AttendanceImportWriter.Row::date)
+                .containsOnly(LocalDate.of(2025, 1, 12));
+    }
+
+    @Test
+    @DisplayName("없는 교구면 IllegalArgumentException")
+    void rejectsUnknownParish() {
+        assertThatThrownBy(() -> service(1000).importCsv(stream(HEADER), 99L, USER_ID, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 👈 서비스가 청크 리스트를 비우므로 저장 시점에 복사해 둠
+    private int[] write(InvocationOnMock invocation) {
+        List<AttendanceImportWriter.Row> rows = invocation.getArgument(0);
+        written.addAll(rows);
+        return new int[] { rows.size(), 0 };
+    }
+
+    private AttendanceImportService service(int chunkSize) {
+        return new AttendanceImportService(groupHierarchy, memberRepository, importWriter, chunkSize);
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MemberRepository.NameKey nameKey(Long id, String name) {
+        return new MemberRepository.NameKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getGroupId() {
+                return GROUP_ID;
+            }
+        };
+    }
+}
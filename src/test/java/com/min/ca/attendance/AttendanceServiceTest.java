@@ -0,0 +1,278 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.min.ca.analytics.AttendanceAnalyticsStore;
+import com.min.ca.group.ChurchGroup;
+import com.min.ca.group.ChurchGroupHierarchy;
+import com.min.ca.group.ChurchGroupRepository;
+import com.min.ca.member.Member;
+import com.min.ca.member.MemberRepository;
+import com.min.ca.member.TalentLedgerService;
+import com.min.ca.user.User;
+import com.min.ca.user.UserPrincipal;
+import com.min.ca.user.UserRepository;
+
+/**
+ * 출결 저장 SQL 문 수 테스트 (실제 MySQL + Flyway 스키마)
+ * - 네이티브 쿼리(ON DUPLICATE KEY UPDATE 등)가 MySQL 전용이라 Testcontainers MySQL 에서 실행합니다.
+ * - DataSource 를 감싸 JDBC 실행(execute*, executeBatch) 횟수를 직접 셉니다.
+ *   (Hibernate 배치 INSERT 뿐 아니라 JdbcTemplate 배치 UPDATE, ID 블록 할당까지 모두 포함)
+ * - 인메모리 구성 요소(날짜 인덱스, 출결판 캐시, 실시간 채널, 분석 저장소, 그룹 계층)는 DB 를 쓰지 않으므로 mock 으로 둡니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none") // 👈 스키마는 Flyway 마이그레이션으로만
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import({ AttendanceService.class, AttendanceJdbcRepository.class, TalentLedgerService.class,
+        AttendanceServiceTest.StatementCounterConfig.class })
+class AttendanceServiceTest {
+
+    private static final int SMALL_BOARD = 10;
+    private static final int LARGE_BOARD = 40; // 👈 배치 크기(50) 안의 출결판 -> INSERT/UPDATE 배치는 한 번씩
+
+    // 저장 한 번에서 ID 블록 할당에 쓰이는 최대 SQL 실행 수
+    // (출결판이 50명 이하이므로 테이블(출결, 원장)마다 블록을 최대 한 번 받음: (SELECT ... FOR UPDATE + UPDATE) x 2)
+    private static final int MAX_ID_ALLOCATIONS = 4;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @MockitoBean
+    private AttendanceDateIndex attendanceDateIndex;
+
+    @MockitoBean
+    private AttendanceBoardCache boardCache;
+
+    @MockitoBean
+    private AttendanceLiveHub liveHub;
+
+    @MockitoBean
+    private AttendanceAnalyticsStore analyticsStore;
+
+    @MockitoBean
+    private ChurchGroupHierarchy groupHierarchy;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private ChurchGroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UserPrincipal leader;
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        ChurchGroup group = groupRepository.save(ChurchGroup.builder().name("1속").build());
+        User user = userRepository.save(User.builder()
+                .username("leader@church.com")
+                .password("{noop}password")
+                .name("속장")
+                .role(2)
+                .group(group)
+                .isActive(true)
+                .build());
+
+        memberIds = new ArrayList<>();
+        for (int i = 1; i <= LARGE_BOARD; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .name("속원" + i)
+                    .isActive(true)
+                    .user(user)
+                    .group(group)
+                    .build());
+            memberIds.add(member.getId());
+        }
+        memberRepository.flush();
+
+        leader = new UserPrincipal(user.getId(), user.getUsername(), user.getName(), 2, group.getId(), null, 0);
+    }
+
+    @Test
+    @DisplayName("출결판 인원이 늘어나도 신규 저장/기존 스냅샷 수정의 SQL 실행 수는 일정하다 (ID 블록 할당 제외)")
+    void saveAttendanceStatementCountIsConstant() {
+        LocalDate firstSunday = LocalDate.of(2025, 1, 5);
+        LocalDate secondSunday = LocalDate.of(2025, 1, 12);
+        LocalDate thirdSunday = LocalDate.of(2025, 1, 19);
+
+        // 1. 신규 저장 (INSERT 배치) - 워밍업 없이 처음부터 측정, 누적 90개 ID 로 50개 블록 경계를 넘김
+        StatementCount insertSmall = save(firstSunday, SMALL_BOARD, 0);
+        StatementCount insertLarge = save(secondSunday, LARGE_BOARD, 0);
+        StatementCount insertLargeAgain = save(thirdSunday, LARGE_BOARD, 0);
+
+        // 2. 같은 출결판을 출결/달란트를 바꿔 다시 저장 (기존 스냅샷 JDBC 배치 UPDATE)
+        StatementCount updateSmall = save(firstSunday, SMALL_BOARD, 1);
+        StatementCount updateLarge = save(secondSunday, LARGE_BOARD, 1);
+
+        assertThat(insertLarge.others()).isEqualTo(insertSmall.others());
+        assertThat(insertLargeAgain.others()).isEqualTo(insertSmall.others());
+        assertThat(updateLarge.others()).isEqualTo(updateSmall.others());
+
+        // 🔑 ID 블록 할당(id_sequences 조회+갱신)은 인원이 아니라 50개마다 한 번 -> 측정 구간에서 실제로 일어났고, 저장마다 상수로 제한됨
+        List<StatementCount> all = List.of(insertSmall, insertLarge, insertLargeAgain, updateSmall, updateLarge);
+        assertThat(all.stream().mapToInt(StatementCount::idAllocations).sum()).isPositive();
+        assertThat(all).allSatisfy(count -> assertThat(count.idAllocations()).isLessThanOrEqualTo(MAX_ID_ALLOCATIONS));
+    }
+
+    /**
+     * 앞에서 n명까지의 출결판을 저장하고, 그동안 실행된 SQL 수를 반환
+     * @param shift 출결/달란트를 바꾸기 위한 값 (같은 출결판을 다른 값으로 다시 저장할 때 1)
+     */
+    private StatementCount save(LocalDate date, int n, int shift) {
+        List<AttendanceDto.AttendanceRecordDto> records = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            AttendanceDto.AttendanceRecordDto record = new AttendanceDto.AttendanceRecordDto();
+            record.setMemberId(memberIds.get(i));
+            record.setStatus((i + shift) % 2 == 0 ? "Present" : "Absent");
+            record.setTalent((i % 3) + 1 + shift); // 👈 모든 회원에게 달란트 조정값이 생기도록 0 이 아닌 값
+            records.add(record);
+        }
+
+        AttendanceDto.SaveRequest request = new AttendanceDto.SaveRequest();
+        request.setDate(date.toString());
+        request.setRecords(records);
+
+        StatementCounterConfig.reset();
+        attendanceService.saveAttendance(request, leader);
+        entityManager.flush(); // 👈 쓰기 지연된 원장 INSERT 까지 포함
+        return new StatementCount(StatementCounterConfig.others.get(), StatementCounterConfig.idAllocations.get());
+    }
+
+    /**
+     * @param others        ID 블록 할당을 뺀 SQL 실행 수 (배치는 executeBatch 한 번으로 집계)
+     * @param idAllocations id_sequences 에 대한 SQL 실행 수
+     */
+    private record StatementCount(int others, int idAllocations) {
+    }
+
+    /**
+     * DataSource 를 감싸 Statement 실행 횟수를 세는 테스트 설정
+     * - Hibernate(배치 INSERT, ID 생성기의 별도 연결)와 JdbcTemplate 모두 이 DataSource 를 거칩니다.
+     */
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        static final AtomicInteger others = new AtomicInteger();
+        static final AtomicInteger idAllocations = new AtomicInteger();
+
+        static void reset() {
+            others.set(0);
+            idAllocations.set(0);
+        }
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof CountingDataSource) {
+                        return bean;
+                    }
+                    return new CountingDataSource(dataSource);
+                }
+            };
+        }
+
+        private static final class CountingDataSource extends DelegatingDataSource {
+
+            private CountingDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        }
+
+        // 👈 prepareStatement(sql)/createStatement() 로 만든 Statement 를 감싸 SQL 과 함께 기억
+        private static Connection countingConnection(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (result instanceof Statement statement) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    return countingStatement(statement, sql);
+                }
+                return result;
+            });
+        }
+
+        private static Statement countingStatement(Statement statement, String preparedSql) {
+            Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+            return proxy(type, statement, (method, args, result) -> {
+                if (method.getName().startsWith("execute")) {
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String text ? text : "";
+                    (sql.contains("id_sequences") ? idAllocations : others).incrementAndGet();
+                }
+                return result;
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object[] args, Object result) throws Throwable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<? extends T> type, T target, AfterCall afterCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return afterCall.apply(method, args, result);
+            });
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.min.ca.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.min.ca.user.UserPrincipal;
+
+class AttendanceSyncServiceTest {
+
+    private static final Long GROUP_ID = 10L;
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 5);
+
+    private AttendanceService attendanceService;
+    private AttendanceRepository attendanceRepository;
+    private AttendanceBoardVersionRepository boardVersionRepository;
+    private AttendanceSyncRequestRepository syncRequestRepository;
+    private AttendanceSyncService syncService;
+    private UserPrincipal leader;
+
+    @BeforeEach
+    void setUp() {
+        attendanceService = mock(AttendanceService.class);
+        attendanceRepository = mock(AttendanceRepository.class);
+        boardVersionRepository = mock(AttendanceBoardVersionRepository.class);
+        syncRequestRepository = mock(AttendanceSyncRequestRepository.class);
+        syncService = new AttendanceSyncService(attendanceService, attendanceRepository,
+                boardVersionRepository, syncRequestRepository, 7);
+        leader = new UserPrincipal(1L, "leader@church.com", "속장", 2, GROUP_ID, null, 0);
+
+        AttendanceDto.DayAttendanceResponse board = new AttendanceDto.DayAttendanceResponse();
+        board.setSnapshotLoaded(true);
+        board.setRecords(List.of(row(100L, "Present"), row(101L, "Absent")));
+        when(attendanceService.loadAttendance(GROUP_ID, DATE)).thenReturn(board);
+        when(attendanceRepository.findChangedBoard(GROUP_ID, DATE, 3L))
+                .thenReturn(List.of(new AttendanceDto.BoardRow(100L, "회원100", 0, true, "Present", "", "", 1)));
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 재전송하면 다시 저장하지 않고 같은 변경분을 돌려준다")
+    void retransmittedPatchIsNoOp() {
+        givenBoardVersion(5L, 0L);
+        when(syncRequestRepository.register(1L, "key-1", GROUP_ID, DATE)).thenReturn(1, 0);
+
+        AttendanceDto.SyncResponse first = syncService.patch(patch("key-1", 3L), leader);
+        AttendanceDto.SyncResponse retry = syncService.patch(patch("key-1", 3L), leader);
+
+        verify(attendanceService, times(1)).saveAttendance(any(), any());
+        assertThat(first.isFull()).isFalse();
+        assertThat(retry.isFull()).isFalse();
+        assertThat(retry.getVersion()).isEqualTo(first.getVersion());
+        assertThat(retry.getRecords()).extracting(AttendanceDto.LoadResponse::getId)
+                .containsExactlyElementsOf(first.getRecords().stream().map(AttendanceDto.LoadResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("멱등 키가 없거나 64자를 넘으면 등록 전에 거부한다")
+    void rejectsInvalidIdempotencyKey() {
+        assertThatThrownBy(() -> syncService.patch(patch(" ", 3L), leader))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.patch(patch("k".repeat(65), 3L), leader))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(syncRequestRepository, never()).register(anyLong(), anyString(), anyLong(), any());
+        verify(attendanceService, never()).saveAttendance(any(), any());
+    }
+
+    @Test
+    @DisplayName("since 이후 변경분만 내려주고, 버전이 없거나 reset 이전/서버보다 앞서면 전체 출결판")
+    void getChangesFallsBackToFullBoard() {
+        givenBoardVersion(5L, 2L);
+
+        AttendanceDto.SyncResponse delta = syncService.getChanges(GROUP_ID, DATE, 3L);
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(5L);
+        assertThat(delta.getRecords()).extracting(AttendanceDto.LoadResponse::getId).containsExactly(100L);
+
+        assertThat(syncService.getChanges(GROUP_ID, DATE, null).isFull()).isTrue();
+        assertThat(syncService.getChanges(GROUP_ID, DATE, 1L).isFull()).isTrue(); // 👈 reset(삭제/명단 변경) 이전
+        assertThat(syncService.getChanges(GROUP_ID, DATE, 6L).isFull()).isTrue(); // 👈 서버보다 앞선 버전
+        assertThat(syncService.getChanges(GROUP_ID, DATE, null).getRecords()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("출결판 버전 행이 없으면 버전 0 으로 본다")
+    void missingVersionRowIsVersionZero() {
+        when(boardVersionRepository.findState(GROUP_ID, DATE)).thenReturn(null);
+
+        AttendanceDto.SyncResponse response = syncService.getChanges(GROUP_ID, DATE, 0L);
+
+        assertThat(response.getVersion()).isZero();
+        assertThat(response.isFull()).isFalse();
+        assertThat(syncService.getVersion(GROUP_ID, DATE)).isZero();
+    }
+
+    private void givenBoardVersion(long version, long resetVersion) {
+        when(boardVersionRepository.findState(GROUP_ID, DATE)).thenReturn(new AttendanceBoardVersionRepository.State() {
+            @Override
+            public long getVersion() {
+                return version;
+            }
+
+            @Override
+            public long getResetVersion() {
+                return resetVersion;
+            }
+        });
+    }
+
+    private static AttendanceDto.SyncPatchRequest patch(String key, Long baseVersion) {
+        AttendanceDto.AttendanceRecordDto record = new AttendanceDto.AttendanceRecordDto();
+        record.setMemberId(100L);
+        record.setStatus("Present");
+        record.setTalent(1);
+
+        AttendanceDto.SyncPatchRequest request = new AttendanceDto.SyncPatchRequest();
+        request.setDate(DATE.toString());
+        request.setIdempotencyKey(key);
+        request.setBaseVersion(baseVersion);
+        request.setRecords(List.of(record));
+        return request;
+    }
+
+    private static AttendanceDto.LoadResponse row(Long memberId, String status) {
+        return new AttendanceDto.LoadResponse(
+                new AttendanceDto.BoardRow(memberId, "회원" + memberId, 0, true, status, "", "", 0));
+    }
+}
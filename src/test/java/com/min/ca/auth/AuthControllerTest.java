@@ -0,0 +1,32 @@
+package com.min.ca.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class AuthControllerTest {
+
+    @Test
+    @DisplayName("로그인 제한(시도 초과/검증 대기열 포화)은 429 + Retry-After")
+    void throttledLoginIsTooManyRequests() {
+        AuthService authService = mock(AuthService.class);
+        when(authService.authenticate(any(), eq("10.0.0.1")))
+                .thenThrow(new LoginThrottledException("로그인 요청이 몰려 있습니다.", 30));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+
+        ResponseEntity<?> response = new AuthController(authService).login(new AuthDto.LoginRequest(), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    }
+}
@@ -0,0 +1,82 @@
+package com.min.ca.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("아이디 버킷이 비면 거부하고, Retry-After 는 토큰 하나가 다시 찰 때까지의 초")
+    void rejectsWhenUserBucketIsEmpty() {
+        LoginRateLimiter limiter = limiter(2, 1, 100, 60); // 👈 아이디: 2회, 분당 1개 충전
+
+        limiter.acquire("leader@church.com", "10.0.0.1");
+        limiter.acquire("leader@church.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("leader@church.com", "10.0.0.1"))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(59L, 60L));
+        assertThat(rejected("user_rate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아이디는 대소문자/앞뒤 공백을 무시하고 같은 버킷을 쓴다")
+    void normalizesUsername() {
+        LoginRateLimiter limiter = limiter(1, 1, 100, 60);
+
+        limiter.acquire("Leader@Church.com ", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("leader@church.com", "10.0.0.2"))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    @DisplayName("지난 시간만큼 토큰이 다시 찬다")
+    void refillsOverTime() throws InterruptedException {
+        LoginRateLimiter limiter = limiter(1, 60_000, 100, 60_000); // 👈 1ms 당 1개 충전
+
+        limiter.acquire("leader@church.com", "10.0.0.1");
+        Thread.sleep(20);
+
+        limiter.acquire("leader@church.com", "10.0.0.1"); // 👈 예외 없음
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 여러 아이디를 합쳐 세고, 한쪽이 막히면 다른 쪽 토큰은 쓰지 않는다")
+    void ipBucketSpansUsernames() {
+        LoginRateLimiter limiter = limiter(1, 1, 2, 1);
+
+        limiter.acquire("a@church.com", "10.0.0.1");
+        assertThatThrownBy(() -> limiter.acquire("a@church.com", "10.0.0.1")) // 👈 아이디 버킷에서 거부 (IP 토큰 유지)
+                .isInstanceOf(LoginThrottledException.class);
+        limiter.acquire("b@church.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("c@church.com", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        limiter.acquire("c@church.com", "10.0.0.2"); // 👈 다른 IP 는 영향 없음
+
+        assertThat(rejected("user_rate")).isEqualTo(1);
+        assertThat(rejected("ip_rate")).isEqualTo(1);
+    }
+
+    private LoginRateLimiter limiter(int userCapacity, int userRefillPerMinute, int ipCapacity, int ipRefillPerMinute) {
+        return new LoginRateLimiter(meterRegistry, userCapacity, userRefillPerMinute, ipCapacity, ipRefillPerMinute, 100);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("auth.login.rejected").tag("reason", reason).functionCounter().count();
+    }
+}
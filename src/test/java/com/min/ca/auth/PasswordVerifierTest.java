@@ -0,0 +1,114 @@
+package com.min.ca.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (verifier != null) {
+            verifier.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("일치 여부를 돌려주고, cost 가 낮은 해시면 새 해시를 함께 돌려준다")
+    void matchesAndUpgradesWeakHash() {
+        BCryptPasswordEncoder weak = new BCryptPasswordEncoder(4);
+        BCryptPasswordEncoder current = new BCryptPasswordEncoder(5);
+        verifier = new PasswordVerifier(current, meterRegistry, 1, 4, 5000);
+
+        String weakHash = weak.encode("pw1234!");
+        PasswordVerifier.Result upgraded = verifier.verify("pw1234!", weakHash);
+        assertThat(upgraded.matched()).isTrue();
+        assertThat(upgraded.upgradedHash()).isNotNull().isNotEqualTo(weakHash);
+        assertThat(current.matches("pw1234!", upgraded.upgradedHash())).isTrue();
+
+        PasswordVerifier.Result same = verifier.verify("pw1234!", upgraded.upgradedHash());
+        assertThat(same.matched()).isTrue();
+        assertThat(same.upgradedHash()).isNull();
+
+        assertThat(verifier.verify("wrong", weakHash).matched()).isFalse();
+        assertThat(verifier.verify("pw1234!", null).matched()).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증 스레드와 대기열이 모두 차면 기다리지 않고 LoginThrottledException (429)")
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        verifier = new PasswordVerifier(blockingEncoder(started), meterRegistry, 1, 1, 10_000);
+
+        CompletableFuture<PasswordVerifier.Result> running = CompletableFuture.supplyAsync(() -> verifier.verify("pw", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue(); // 👈 스레드 1개가 검증 중
+        CompletableFuture<PasswordVerifier.Result> queued = CompletableFuture.supplyAsync(() -> verifier.verify("pw", "hash"));
+        waitForQueued(1);                                       // 👈 대기열 1칸도 참
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> verifier.verify("pw", "hash"))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        assertThat(rejected("queue_full")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).matched()).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS).matched()).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 검증이 끝나지 않으면 LoginThrottledException (429)")
+    void rejectsOnTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        verifier = new PasswordVerifier(blockingEncoder(started), meterRegistry, 1, 4, 50);
+
+        assertThatThrownBy(() -> verifier.verify("pw", "hash"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    // 🔑 release 가 열릴 때까지 검증이 끝나지 않는 인코더 (started: 검증 스레드가 실행을 시작함)
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        return encoder;
+    }
+
+    private void waitForQueued(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("auth.login.verify.queue").gauge().value() < size) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("대기열에 요청이 들어오지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("auth.login.rejected").tag("reason", reason).functionCounter().count();
+    }
+}
@@ -0,0 +1,115 @@
+package com.min.ca.group;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChurchGroupHierarchyTest {
+
+    private ChurchGroupRepository groupRepository;
+    private ChurchGroupHierarchy hierarchy;
+
+    /**
+     * 1교구 ─ 11속 ─ 111(하위 모임)
+     *       └ 12속
+     * 2교구 ─ 21속
+     */
+    @BeforeEach
+    void setUp() {
+        groupRepository = mock(ChurchGroupRepository.class);
+        when(groupRepository.findAllNodes()).thenReturn(List.of(
+                row(1L, "1교구", null), row(2L, "2교구", null),
+                row(12L, "12속", 1L), row(11L, "11속", 1L), row(21L, "21속", 2L),
+                row(111L, "하위 모임", 11L)));
+        hierarchy = new ChurchGroupHierarchy(groupRepository);
+    }
+
+    @Test
+    @DisplayName("하위 그룹이면 깊이와 상관없이 true")
+    void descendantsAtAnyDepth() {
+        assertThat(hierarchy.isDescendantOf(11L, 1L)).isTrue();
+        assertThat(hierarchy.isDescendantOf(111L, 1L)).isTrue();
+        assertThat(hierarchy.isDescendantOf(111L, 11L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("자기 자신, 형제, 다른 교구, 상위 그룹, 없는 그룹이면 false")
+    void notDescendants() {
+        assertThat(hierarchy.isDescendantOf(1L, 1L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(12L, 11L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(111L, 12L)).isFalse(); // 👈 같은 깊이의 다른 속
+        assertThat(hierarchy.isDescendantOf(21L, 1L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(1L, 11L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(999L, 1L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(11L, null)).isFalse();
+        assertThat(hierarchy.isDescendantOf(null, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("부모/자식/깊이/경로를 미리 계산하고 자식은 ID 순")
+    void precomputesNodes() {
+        ChurchGroupHierarchy.Node node = hierarchy.find(111L);
+        assertThat(node.depth()).isEqualTo(2);
+        assertThat(node.path()).containsExactly(1L, 11L, 111L);
+        assertThat(hierarchy.parentId(111L)).isEqualTo(11L);
+
+        assertThat(hierarchy.childIds(1L)).containsExactly(11L, 12L);
+        assertThat(hierarchy.children(1L)).extracting(ChurchGroupHierarchy.Node::name).containsExactly("11속", "12속");
+        assertThat(hierarchy.children(999L)).isEmpty();
+        assertThat(hierarchy.roots()).extracting(ChurchGroupHierarchy.Node::id).containsExactly(1L, 2L);
+        assertThat(hierarchy.find(1L).isParish()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순환 참조가 있어도 적재가 끝나고, 최상위에서 닿지 않는 그룹은 없는 그룹으로 본다")
+    void survivesCycles() {
+        when(groupRepository.findAllNodes()).thenReturn(List.of(
+                row(1L, "1교구", null), row(11L, "11속", 1L),
+                row(30L, "순환 A", 31L), row(31L, "순환 B", 30L)));
+
+        hierarchy.reload();
+
+        assertThat(hierarchy.isDescendantOf(11L, 1L)).isTrue();
+        assertThat(hierarchy.find(30L)).isNull();
+        assertThat(hierarchy.isDescendantOf(30L, 31L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재적재하면 새 스냅샷으로 교체된다 (그룹 이동 반영)")
+    void reloadReplacesSnapshot() {
+        assertThat(hierarchy.isDescendantOf(12L, 1L)).isTrue();
+
+        when(groupRepository.findAllNodes()).thenReturn(List.of(
+                row(1L, "1교구", null), row(2L, "2교구", null), row(12L, "12속", 2L)));
+        hierarchy.changed(); // 👈 트랜잭션 밖이면 바로 재적재
+
+        assertThat(hierarchy.isDescendantOf(12L, 1L)).isFalse();
+        assertThat(hierarchy.isDescendantOf(12L, 2L)).isTrue();
+        assertThat(hierarchy.childIds(1L)).isEmpty();
+    }
+
+    private static ChurchGroupRepository.NodeRow row(Long id, String name, Long parentId) {
+        return new ChurchGroupRepository.NodeRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getParentId() {
+                return parentId;
+            }
+        };
+    }
+}
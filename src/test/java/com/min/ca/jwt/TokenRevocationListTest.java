@@ -0,0 +1,106 @@
+package com.min.ca.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenRevocationListTest {
+
+    private static final long EXPIRES_AT = System.currentTimeMillis() + 60_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(new SimpleMeterRegistry(), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰(jti)만 거부한다")
+    void revokesSingleToken() {
+        revocationList.revokeToken("jti-1", EXPIRES_AT); // 👈 트랜잭션 밖이면 바로 반영
+
+        assertThat(revocationList.isRevoked("jti-1", 1L, new Date())).isTrue();
+        assertThat(revocationList.isRevoked("jti-2", 1L, new Date())).isFalse();
+        assertThat(revocationList.isRevoked(null, 1L, new Date())).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 단위 폐기는 그 시각 이전에 발급된 토큰만 거부한다")
+    void revokesUserTokensIssuedBefore() {
+        long revokedBefore = 1_700_000_000_000L;
+        revocationList.revokeUser(7L, revokedBefore);
+
+        assertThat(revocationList.isRevoked("jti-1", 7L, new Date(revokedBefore - 1000))).isTrue();
+        assertThat(revocationList.isRevoked("jti-2", 7L, new Date(revokedBefore))).isFalse(); // 👈 폐기 직후 다시 로그인
+        assertThat(revocationList.isRevoked("jti-3", 8L, new Date(revokedBefore - 1000))).isFalse();
+        assertThat(revocationList.isRevoked("jti-4", 7L, null)).isTrue(); // 👈 발급 시각이 없으면 거부
+    }
+
+    @Test
+    @DisplayName("블룸 필터가 '있을 수 있음'이어도 정확한 목록에 없으면 통과시킨다")
+    void bloomFalsePositivesFallBackToExactSet() {
+        // 👈 비트 64개짜리 필터에 100건을 넣어 거의 모든 비트를 켬 -> 거의 모든 조회가 블룸 필터에 걸림
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new TokenRevocationList(meterRegistry, 1, 0.5);
+        for (int i = 0; i < 100; i++) {
+            revocationList.revokeToken("revoked-" + i, EXPIRES_AT);
+            revocationList.revokeUser(1000L + i, System.currentTimeMillis());
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(revocationList.isRevoked("active-" + i, (long) i, new Date())).isFalse();
+        }
+
+        assertThat(count("bloom_hit")).isGreaterThan(0);
+        assertThat(count("bloom_hit") + count("pass")).isEqualTo(1000);
+        assertThat(count("revoked")).isZero();
+    }
+
+    @Test
+    @DisplayName("재적재는 DB 목록으로 교체하고, 재적재 중에 들어온 폐기는 다시 더한다")
+    void reloadReplaysRevocationsMadeDuringReload() {
+        revocationList.revokeToken("expired", EXPIRES_AT); // 👈 DB 에서 이미 지워진 항목
+
+        revocationList.beginReload();
+        revocationList.revokeToken("during-reload", EXPIRES_AT); // 👈 DB 조회 이후 커밋된 폐기
+        revocationList.replace(List.of(token("from-db")), List.of(user(7L, LocalDateTime.now().plusMinutes(1))));
+
+        assertThat(revocationList.isRevoked("from-db", 1L, new Date())).isTrue();
+        assertThat(revocationList.isRevoked("during-reload", 1L, new Date())).isTrue();
+        assertThat(revocationList.isRevoked("expired", 1L, new Date())).isFalse();
+        assertThat(revocationList.isRevoked("any", 7L, new Date())).isTrue();
+        assertThat(revocationList.size()).isEqualTo(3);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auth.revocation.checks").tag("result", result).functionCounter().count();
+    }
+
+    private static RevokedToken token(String jti) {
+        RevokedToken token = mock(RevokedToken.class);
+        when(token.getJti()).thenReturn(jti);
+        when(token.getExpiresAt()).thenReturn(
+                LocalDateTime.ofInstant(new Date(EXPIRES_AT).toInstant(), ZoneId.systemDefault()));
+        return token;
+    }
+
+    private static UserTokenRevocation user(Long userId, LocalDateTime revokedBefore) {
+        UserTokenRevocation revocation = mock(UserTokenRevocation.class);
+        when(revocation.getUserId()).thenReturn(userId);
+        when(revocation.getRevokedBefore()).thenReturn(revokedBefore);
+        return revocation;
+    }
+}
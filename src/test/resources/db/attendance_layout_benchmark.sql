@@ -0,0 +1,61 @@
+-- ATTENDANCE 저장 구조(V5) 전/후 비교용 합성 데이터 벤치마크
+-- 사용법: 빈 스키마에서 V1~V4 적용 후 이 스크립트의 1~2 실행 -> 3 측정 -> V5 적용 -> 3 다시 측정
+-- (200 속 x 30 명 x 10 년치 주일 ≈ 310만 행)
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+-- 1. 그룹/회원 생성 (20 교구 x 10 속, 속당 30 명)
+INSERT INTO church_group (group_id, group_name, parent_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20)
+SELECT 100000 + n, CONCAT('bench parish ', n), NULL FROM seq;
+
+INSERT INTO church_group (group_id, group_name, parent_id)
+WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 199)
+SELECT 200000 + n, CONCAT((n % 10) + 1, '속'), 100001 + FLOOR(n / 10) FROM seq;
+
+INSERT INTO `user` (id, username, password, name, role, is_youth, is_active, group_id)
+VALUES (900000, 'bench@church.com', '-', 'bench', 2, 0, 1, 200000);
+
+INSERT INTO member (member_id, name, contact, is_active, talent, user_id, group_id)
+WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 5999)
+SELECT 300000 + n, CONCAT('member ', n), NULL, 1, 0, 900000, 200000 + FLOOR(n / 30) FROM seq;
+
+-- 2. 10년치 주일 출결 (V5 이전: status 는 'Present'/'Absent' 문자열)
+INSERT INTO attendance (attendance_id, member_id, user_id, group_id, attendance_date, status, talent, reason, note)
+WITH RECURSIVE weeks (w) AS (SELECT 0 UNION ALL SELECT w + 1 FROM weeks WHERE w < 519)
+SELECT 1000000 + w * 6000 + (m.member_id - 300000), m.member_id, 900000, m.group_id,
+       DATE_ADD('2016-01-03', INTERVAL w WEEK),
+       IF(RAND() < 0.7, 'Present', 'Absent'), FLOOR(RAND() * 4), NULL, NULL
+FROM weeks CROSS JOIN member m WHERE m.member_id >= 300000;
+
+ANALYZE TABLE attendance;
+
+-- 3. 측정 쿼리 (V5 이후에는 'Present' 대신 1)
+EXPLAIN ANALYZE
+SELECT COUNT(*), SUM(status = 'Present'), SUM(talent)
+FROM attendance WHERE group_id = 200123 AND attendance_date = '2024-05-05';
+
+EXPLAIN ANALYZE
+SELECT attendance_id, talent FROM attendance WHERE member_id = 301234 AND attendance_date = '2024-05-05';
+
+EXPLAIN ANALYZE
+SELECT attendance_date, status FROM attendance WHERE member_id = 301234 ORDER BY attendance_date DESC LIMIT 20;
+
+SELECT data_length / 1024 / 1024 AS data_mb, index_length / 1024 / 1024 AS index_mb
+FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'attendance';
+
+-- 4. 측정 결과 (MariaDB 11.4.5, 310만 행, 쿼리당 평균 = 200회 실행 - 같은 횟수 SELECT 1 왕복 시간)
+--    MariaDB 는 EXPLAIN ANALYZE 대신 ANALYZE <쿼리>, cte_max_recursion_depth 대신 max_recursive_iterations
+--
+--    Q1 속 출결판 집계 : V4 ref fk_attendance_group (31,200 행 읽고 30 행 사용)  28.2 ms
+--                        V5 ref idx_attendance_group_date (30 행, Using index)      0.47 ms
+--    Q2 회원/날짜 조회 : V4 ref fk_attendance_member (520 행 읽고 1 행 사용)     1.46 ms
+--                        V5 const uk_attendance_member_date (1 행)                 측정 잡음 이하 (< 0.05 ms)
+--    Q3 회원 최근 20건 : V4 ref fk_attendance_member + Using filesort (520 행)     1.48 ms
+--                        V5 ref uk_attendance_member_date, 정렬 없이 20 행에서 멈춤  0.11 ms
+--    크기 (데이터/인덱스 MB) : V4 231.0 / 321.3 -> V5 230.8 / 274.2
+--                        (FK 용 fk_attendance_member / fk_attendance_group 인덱스를 새 인덱스가 대신함)
+--
+--    V5 실행 시간: 1단계 중복 DELETE (자기 조인) 는 회원마다 이력 전체를 서로 비교 (V4 에는 (회원, 날짜) 인덱스 없음)
+--                 -> 60 명 표본 21 초, 6,000 명 전체는 51 분 넘게 끝나지 않아 중단
+--                 나머지 단계 (status 변환 23.9 초, 인덱스 10.0 초, 요약 재생성 2.3 초) 합계 37.3 초